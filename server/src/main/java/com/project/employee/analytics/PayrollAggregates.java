@@ -0,0 +1,346 @@
+package com.project.employee.analytics;
+
+import com.project.employee.dto.HistogramBucket;
+import com.project.employee.dto.PayrollStats;
+import com.project.employee.dto.PayrollSummary;
+import com.project.employee.dto.SalaryDistribution;
+import com.project.employee.exception.ApiException;
+import com.project.employee.model.Employee;
+import com.project.employee.repository.EmployeeRepository;
+import com.project.employee.spec.EmployeeFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * Headcount and salary sum, min and max per position and per start month, kept in
+ * memory so that payroll figures never scan the {@code employee} table.
+ *
+ * <p>Every committed create, update and delete is applied in logarithmic time. Each
+ * employee's current contribution is remembered by id, so updates and set-based deletes
+ * can take back exactly what was added before. Each group keeps its salaries as a
+ * sorted multiset, so min and max survive removals without rescanning anything.
+ *
+ * <p>Salaries are also counted in a {@link SalarySketch} per position and start month.
+ * A distribution query merges the cells in its scope, so its cost depends on the number
+ * of positions and months, not rows, and each sketch stays within a fixed size.
+ *
+ * <p>The aggregates are loaded from the table in the background once the application is
+ * ready, i.e. after the seeders. Changes committed during that load are journaled and
+ * replayed on top.
+ */
+@Slf4j
+@Component
+public class PayrollAggregates {
+
+    private static final int REBUILD_CHUNK = 5_000;
+    private static final String NO_POSITION = "(none)";
+    private static final double SKETCH_ACCURACY = 0.01;
+    private static final int SKETCH_MAX_BUCKETS = 2_048;
+    private static final int MAX_HISTOGRAM_BUCKETS = 1_000;
+    // past 2^53 a double no longer holds every integer
+    private static final double MAX_EXACT_INDEX = 0x1p53;
+
+    /** Running figures of one group. */
+    private static final class Group {
+        final Object key;
+        long headcount;
+        long salaried;
+        BigDecimal sum = BigDecimal.ZERO;
+        /** Salary to number of employees earning it. */
+        final TreeMap<BigDecimal, Integer> salaries = new TreeMap<>();
+
+        Group(Object key) {
+            this.key = key;
+        }
+
+        void add(double salary) {
+            headcount++;
+            if (Double.isNaN(salary)) {
+                return;
+            }
+            salaried++;
+            BigDecimal value = BigDecimal.valueOf(salary);
+            sum = sum.add(value);
+            salaries.merge(value, 1, Integer::sum);
+        }
+
+        void remove(double salary) {
+            headcount--;
+            if (Double.isNaN(salary)) {
+                return;
+            }
+            salaried--;
+            BigDecimal value = BigDecimal.valueOf(salary);
+            sum = sum.subtract(value);
+            salaries.computeIfPresent(value, (key, count) -> count == 1 ? null : count - 1);
+        }
+
+        PayrollStats toStats() {
+            double total = sum.doubleValue();
+            return new PayrollStats(headcount, total,
+                    salaried == 0 ? null : total / salaried,
+                    salaried == 0 ? null : salaries.firstKey().doubleValue(),
+                    salaried == 0 ? null : salaries.lastKey().doubleValue());
+        }
+    }
+
+    /** What one employee adds to the figures; NaN salary when there is none. */
+    private record Contribution(Group position, Group month, Cell cell, double salary) {
+    }
+
+    /** Sketch key; the position is null for employees without one. */
+    private record Cell(String position, YearMonth month) {
+    }
+
+    private record Change(Long id, boolean deleted, String position, Double salary, LocalDate startWorkDate) {
+    }
+
+    /** All mutable state; replaced as a whole by a rebuild. */
+    private static final class State {
+        final Map<Long, Contribution> byId = new HashMap<>();
+        final Map<String, Group> byPosition = new HashMap<>();
+        final Map<YearMonth, Group> byMonth = new HashMap<>();
+        final Map<Cell, SalarySketch> sketches = new HashMap<>();
+        final Group total = new Group("total");
+
+        void put(Long id, String position, Double salary, LocalDate startWorkDate) {
+            remove(id);
+            String positionKey = position == null ? NO_POSITION : position;
+            YearMonth month = startWorkDate == null ? null : YearMonth.from(startWorkDate);
+            Contribution contribution = new Contribution(
+                    byPosition.computeIfAbsent(positionKey, Group::new),
+                    month == null ? null : byMonth.computeIfAbsent(month, Group::new),
+                    new Cell(position, month),
+                    salary == null ? Double.NaN : salary);
+            byId.put(id, contribution);
+            total.add(contribution.salary());
+            contribution.position().add(contribution.salary());
+            if (contribution.month() != null) {
+                contribution.month().add(contribution.salary());
+            }
+            if (salary != null) {
+                sketches.computeIfAbsent(contribution.cell(), cell -> new SalarySketch(SKETCH_ACCURACY, SKETCH_MAX_BUCKETS))
+                        .add(salary);
+            }
+        }
+
+        void remove(Long id) {
+            Contribution contribution = byId.remove(id);
+            if (contribution == null) {
+                return;
+            }
+            total.remove(contribution.salary());
+            Group position = contribution.position();
+            position.remove(contribution.salary());
+            if (position.headcount == 0) {
+                byPosition.remove(position.key, position);
+            }
+            Group month = contribution.month();
+            if (month != null) {
+                month.remove(contribution.salary());
+                if (month.headcount == 0) {
+                    byMonth.remove(month.key, month);
+                }
+            }
+            SalarySketch sketch = sketches.get(contribution.cell());
+            if (sketch != null && !Double.isNaN(contribution.salary())) {
+                sketch.remove(contribution.salary());
+                if (sketch.isEmpty()) {
+                    sketches.remove(contribution.cell());
+                }
+            }
+        }
+    }
+
+    private final EmployeeRepository employeeRepository;
+    private final Executor executor;
+
+    private State state = new State();
+    /** Changes committed while a rebuild is loading; null when no rebuild runs. */
+    private List<Change> journal;
+    private boolean ready;
+
+    public PayrollAggregates(EmployeeRepository employeeRepository,
+                             @Qualifier("payrollExecutor") Executor executor) {
+        this.employeeRepository = employeeRepository;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(this::rebuild);
+    }
+
+    /** Applies committed employees, new or updated. */
+    public synchronized void putAll(Collection<Employee> employees) {
+        for (Employee employee : employees) {
+            apply(new Change(employee.getId(), false, employee.getPosition(), employee.getSalary(),
+                    employee.getStartWorkDate()));
+        }
+    }
+
+    public void put(Employee employee) {
+        putAll(List.of(employee));
+    }
+
+    /** Applies committed deletes. */
+    public synchronized void removeAll(Collection<Long> ids) {
+        for (Long id : ids) {
+            apply(new Change(id, true, null, null, null));
+        }
+    }
+
+    public synchronized PayrollSummary summary() {
+        Map<String, PayrollStats> byPosition = new TreeMap<>();
+        state.byPosition.forEach((position, group) -> byPosition.put(position, group.toStats()));
+        Map<String, PayrollStats> byMonth = new LinkedHashMap<>();
+        new TreeMap<>(state.byMonth).forEach((month, group) -> byMonth.put(month.toString(), group.toStats()));
+        return new PayrollSummary(state.total.toStats(), byPosition, byMonth, ready);
+    }
+
+    /**
+     * Salary distribution of the employees whose position matches {@code filter} and
+     * whose start month overlaps its start date range. Other criteria are not looked at.
+     * Histogram buckets are {@code bucketWidth} wide and aligned to multiples of it.
+     */
+    public SalaryDistribution salaryDistribution(EmployeeFilter filter, double bucketWidth) {
+        YearMonth from = filter.getStartWorkDateFrom() == null ? null : YearMonth.from(filter.getStartWorkDateFrom());
+        YearMonth to = filter.getStartWorkDateTo() == null ? null : YearMonth.from(filter.getStartWorkDateTo());
+        Predicate<String> position = positionMatcher(filter);
+
+        SalarySketch merged = new SalarySketch(SKETCH_ACCURACY, SKETCH_MAX_BUCKETS);
+        boolean loaded;
+        synchronized (this) {
+            for (Map.Entry<Cell, SalarySketch> entry : state.sketches.entrySet()) {
+                Cell cell = entry.getKey();
+                if (position.test(cell.position())
+                        && (from == null || (cell.month() != null && !cell.month().isBefore(from)))
+                        && (to == null || (cell.month() != null && !cell.month().isAfter(to)))) {
+                    merged.merge(entry.getValue());
+                }
+            }
+            loaded = ready;
+        }
+        return new SalaryDistribution(merged.getCount(),
+                from == null ? null : from.atDay(1),
+                to == null ? null : to.atEndOfMonth(),
+                merged.quantile(0.1), merged.quantile(0.5), merged.quantile(0.9),
+                merged.getRelativeAccuracy(), histogram(merged, bucketWidth), loaded);
+    }
+
+    private static Predicate<String> positionMatcher(EmployeeFilter filter) {
+        String term = filter.getPosition() == null || filter.getPosition().trim().isEmpty()
+                ? null : filter.getPosition().toLowerCase();
+        if (term == null) {
+            return position -> true;
+        }
+        return position -> {
+            if (position == null) {
+                return false;
+            }
+            String value = position.toLowerCase();
+            return switch (filter.getMatchMode()) {
+                case EXACT -> value.equals(term);
+                case PREFIX -> value.startsWith(term);
+                case CONTAINS -> value.contains(term);
+            };
+        };
+    }
+
+    private static List<HistogramBucket> histogram(SalarySketch sketch, double bucketWidth) {
+        if (sketch.isEmpty()) {
+            return List.of();
+        }
+        double[] range = {Double.MAX_VALUE, 0};
+        sketch.forEachBucket((value, count) -> {
+            range[0] = Math.min(range[0], value);
+            range[1] = Math.max(range[1], value);
+        });
+        // bucket indexes are worked out as doubles first, so a tiny width cannot overflow a long
+        double firstIndex = Math.floor(range[0] / bucketWidth);
+        double lastIndex = Math.floor(range[1] / bucketWidth);
+        if (!(lastIndex < MAX_EXACT_INDEX) || lastIndex - firstIndex >= MAX_HISTOGRAM_BUCKETS) {
+            throw new ApiException("Bucket width " + bucketWidth + " gives more than "
+                    + MAX_HISTOGRAM_BUCKETS + " histogram buckets");
+        }
+        long first = (long) firstIndex;
+        long[] counts = new long[(int) (lastIndex - firstIndex) + 1];
+        sketch.forEachBucket((value, count) -> counts[(int) ((long) Math.floor(value / bucketWidth) - first)] += count);
+        List<HistogramBucket> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            buckets.add(new HistogramBucket((first + i) * bucketWidth, (first + i + 1) * bucketWidth, counts[i]));
+        }
+        return buckets;
+    }
+
+    /** Reloads everything from the table, without blocking writers for the duration of the scan. */
+    public void rebuild() {
+        synchronized (this) {
+            if (journal != null) {
+                return;
+            }
+            journal = new ArrayList<>();
+        }
+        State next = new State();
+        try {
+            long afterId = 0;
+            while (true) {
+                List<EmployeeRepository.PayrollRow> rows =
+                        employeeRepository.findPayrollRows(afterId, Limit.of(REBUILD_CHUNK));
+                for (EmployeeRepository.PayrollRow row : rows) {
+                    next.put(row.getId(), row.getPosition(), row.getSalary(), row.getStartWorkDate());
+                }
+                if (rows.size() < REBUILD_CHUNK) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                journal = null;
+            }
+            log.error("Payroll aggregates rebuild failed", e);
+            return;
+        }
+        synchronized (this) {
+            // replaying is idempotent: a put replaces, a delete removes
+            journal.forEach(change -> apply(next, change));
+            journal = null;
+            state = next;
+            ready = true;
+        }
+        log.info("Payroll aggregates loaded for {} employees", next.byId.size());
+    }
+
+    private void apply(Change change) {
+        apply(state, change);
+        if (journal != null) {
+            journal.add(change);
+        }
+    }
+
+    private static void apply(State target, Change change) {
+        if (change.deleted()) {
+            target.remove(change.id());
+        } else {
+            target.put(change.id(), change.position(), change.salary(), change.startWorkDate());
+        }
+    }
+}
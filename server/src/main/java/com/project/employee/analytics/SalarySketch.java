@@ -0,0 +1,174 @@
+package com.project.employee.analytics;
+
+/**
+ * Mergeable quantile sketch with relative accuracy (the DDSketch scheme). Values are
+ * counted in logarithmic buckets, where bucket {@code i} covers
+ * {@code (gamma^(i-1), gamma^i]}, so any quantile comes back within
+ * {@code relativeAccuracy} of a value that really is at that rank.
+ *
+ * <p>Unlike t-digest or KLL, a bucket count can simply be decremented, so a value
+ * can be removed again. Memory is bounded by {@code maxBuckets}. Past that, the lowest
+ * buckets are folded into one, which costs accuracy only at the bottom of the range.
+ * Values of zero and below are counted as zero. Not thread-safe.
+ */
+public final class SalarySketch {
+
+    private static final int INITIAL_BUCKETS = 32;
+
+    /** Receives the non-empty buckets of a sketch, lowest first. */
+    @FunctionalInterface
+    public interface BucketConsumer {
+        void accept(double value, long count);
+    }
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final int maxBuckets;
+
+    private long[] counts = new long[0];
+    /** The bucket index held by {@code counts[0]}. */
+    private int offset;
+    /** Whether {@code counts[0]} also holds everything below it. */
+    private boolean collapsed;
+    private long zeroCount;
+    private long count;
+
+    public SalarySketch(double relativeAccuracy, int maxBuckets) {
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.maxBuckets = maxBuckets;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public void add(double value) {
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            int slot = slot(index(value));
+            counts[slot]++;
+        }
+        count++;
+    }
+
+    /** Takes back one earlier {@link #add} of {@code value}. */
+    public void remove(double value) {
+        if (value <= 0) {
+            if (zeroCount == 0) {
+                return;
+            }
+            zeroCount--;
+        } else {
+            int index = index(value);
+            if (counts.length == 0 || index >= offset + counts.length) {
+                return;
+            }
+            int slot = Math.max(index - offset, 0);
+            if (counts[slot] == 0 || (index < offset && !collapsed)) {
+                return;
+            }
+            counts[slot]--;
+        }
+        count--;
+    }
+
+    /** Adds every value counted by {@code other}. */
+    public void merge(SalarySketch other) {
+        zeroCount += other.zeroCount;
+        count += other.zeroCount;
+        for (int i = 0; i < other.counts.length; i++) {
+            long n = other.counts[i];
+            if (n != 0) {
+                int slot = slot(other.offset + i);
+                counts[slot] += n;
+                count += n;
+            }
+        }
+    }
+
+    /** The value at quantile {@code q} (0 to 1), or null for an empty sketch. */
+    public Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) (q * (count - 1));
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0.0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return value(offset + i);
+            }
+        }
+        return value(offset + counts.length - 1);
+    }
+
+    public void forEachBucket(BucketConsumer consumer) {
+        if (zeroCount > 0) {
+            consumer.accept(0, zeroCount);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                consumer.accept(value(offset + i), counts[i]);
+            }
+        }
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    /** The value reported for bucket {@code index}, within the relative accuracy of all of it. */
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /** Position of bucket {@code index} in {@link #counts}, growing or collapsing the array as needed. */
+    private int slot(int index) {
+        if (counts.length == 0) {
+            counts = new long[Math.min(INITIAL_BUCKETS, maxBuckets)];
+            offset = index - counts.length / 2;
+        }
+        if (index < offset && !collapsed) {
+            resize(index, offset + counts.length - 1, false);
+        } else if (index >= offset + counts.length) {
+            resize(offset, index, true);
+        }
+        return Math.max(index - offset, 0);
+    }
+
+    private void resize(int low, int high, boolean growingUp) {
+        int span = high - low + 1;
+        int length = Math.min(maxBuckets, Math.max(span, counts.length * 2));
+        int nextOffset;
+        if (span > maxBuckets) {
+            nextOffset = high - maxBuckets + 1;
+            collapsed = true;
+        } else {
+            // leave the spare room on the side the range is growing towards
+            nextOffset = growingUp ? low : high - length + 1;
+        }
+        long[] next = new long[length];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                next[Math.max(offset + i - nextOffset, 0)] += counts[i];
+            }
+        }
+        counts = next;
+        offset = nextOffset;
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.employee.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.employee.dto.EmployeeDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of mapped employees by id. Hit, miss and eviction
+ * counts are published as the {@code cache.*} metrics tagged {@code cache=employeeById}.
+ *
+ * <p>Writers invalidate after commit. A load racing with that invalidation is safe:
+ * Caffeine blocks the invalidation until the in-flight load has been stored, then removes it.
+ */
+@Component
+public class EmployeeDtoCache {
+
+    private final Cache<Long, EmployeeDto> cache;
+
+    public EmployeeDtoCache(MeterRegistry meterRegistry,
+                            @Value("${cache.employee.max-size:10000}") long maxSize,
+                            @Value("${cache.employee.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employeeById");
+    }
+
+    public EmployeeDto get(Long id, Function<Long, EmployeeDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    /** The cached employee, without loading it on a miss. */
+    public EmployeeDto getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        cache.invalidateAll(ids);
+    }
+}
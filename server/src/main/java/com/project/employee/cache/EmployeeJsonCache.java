@@ -0,0 +1,137 @@
+package com.project.employee.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.employee.dto.EmployeeDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Serialized JSON of employees, keyed by id and version. Every JPA update bumps the
+ * version, so an entry can never go stale; entries of old versions and deleted rows are
+ * simply evicted. Hit, miss and eviction counts are published as the {@code cache.*}
+ * metrics tagged {@code cache=employeeJson}.
+ *
+ * <p>{@link #module()} makes Jackson write every {@link EmployeeDto} from this cache, so
+ * a page of employees is assembled by copying one cached fragment per row into the
+ * output. Fragments are always compact, even inside pretty-printed output.
+ */
+@Component
+public class EmployeeJsonCache {
+
+    private record Key(long id, long version) {
+    }
+
+    private final Cache<Key, SerializedString> cache;
+
+    public EmployeeJsonCache(MeterRegistry meterRegistry,
+                             @Value("${cache.employee-json.max-bytes:33554432}") long maxBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                // the string and its UTF-8 encoding, about one byte per char each
+                .weigher((Key key, SerializedString json) -> 2 * json.charLength() + 64)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employeeJson");
+    }
+
+    /** Jackson module wrapping the {@link EmployeeDto} serializer with this cache. */
+    public Module module() {
+        SimpleModule module = new SimpleModule("EmployeeJsonCache");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription description,
+                                                      JsonSerializer<?> serializer) {
+                return description.getBeanClass() == EmployeeDto.class
+                        ? new CachingSerializer((JsonSerializer<Object>) serializer)
+                        : serializer;
+            }
+        });
+        return module;
+    }
+
+    private final class CachingSerializer extends StdSerializer<EmployeeDto>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        CachingSerializer(JsonSerializer<Object> delegate) {
+            super(EmployeeDto.class);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void serialize(EmployeeDto employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (employee.getId() == null || employee.getVersion() == null || gen.getCodec() == null) {
+                delegate.serialize(employee, gen, provider);
+                return;
+            }
+            Key key = new Key(employee.getId(), employee.getVersion());
+            SerializedString json = cache.getIfPresent(key);
+            if (json == null) {
+                json = render(employee, gen, provider);
+                cache.put(key, json);
+            }
+            gen.writeRawValue(json);
+        }
+
+        private SerializedString render(EmployeeDto employee, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            StringWriter out = new StringWriter(256);
+            try (JsonGenerator fragment = gen.getCodec().getFactory().createGenerator(out)) {
+                delegate.serialize(employee, fragment, provider);
+            }
+            SerializedString json = new SerializedString(out.toString());
+            // encoded once here instead of on the first write
+            json.asUnquotedUTF8();
+            return json;
+        }
+
+        @Override
+        public void serializeWithType(EmployeeDto employee, JsonGenerator gen, SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+            delegate.serializeWithType(employee, gen, provider, typeSerializer);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (delegate instanceof ContextualSerializer contextual) {
+                JsonSerializer<?> contextualized = contextual.createContextual(provider, property);
+                if (contextualized != delegate) {
+                    return new CachingSerializer((JsonSerializer<Object>) contextualized);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.employee.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches list/filter query results under the current write version of their table.
+ * Every committed write bumps the version, so invalidation is a single increment:
+ * later lookups build keys with the new version and never see older results,
+ * which simply age out of the cache.
+ *
+ * <p>Versions must be bumped after commit; a bump before commit would let a reader
+ * cache pre-commit rows under the new version.
+ */
+@Component
+public class QueryResultCache {
+
+    public static final String EMPLOYEE = "employee";
+    public static final String USERS = "users";
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Cache<Key, Object> cache;
+
+    public QueryResultCache(MeterRegistry meterRegistry,
+                            @Value("${cache.query.max-size:2000}") long maxSize,
+                            @Value("${cache.query.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "queryResults");
+    }
+
+    /**
+     * Returns the cached result of {@code query} against {@code table}, running {@code loader}
+     * on a miss. {@code query} must have value semantics (normalized filter, pageable, ...).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String table, Object query, Supplier<T> loader) {
+        Key key = new Key(table, version(table), query);
+        return (T) cache.get(key, k -> loader.get());
+    }
+
+    public long version(String table) {
+        return versions.computeIfAbsent(table, t -> new AtomicLong()).get();
+    }
+
+    public void bump(String table) {
+        versions.computeIfAbsent(table, t -> new AtomicLong()).incrementAndGet();
+    }
+
+    private record Key(String table, long version, Object query) {
+    }
+}
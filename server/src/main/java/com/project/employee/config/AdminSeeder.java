@@ -2,6 +2,7 @@ package com.project.employee.config;
 
 import com.project.employee.model.User;
 import com.project.employee.repository.UserRepository;
+import com.project.employee.search.UsernameFilter;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,16 +12,18 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class AdminSeeder {
 
     @Bean
-    public CommandLineRunner seedAdmin(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public CommandLineRunner seedAdmin(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                       UsernameFilter usernameFilter) {
         return args -> {
             String adminUsername = "admin";
-            if (userRepository.findByUsername(adminUsername).isEmpty()) {
+            if (!usernameFilter.mightExist(adminUsername) || !userRepository.existsByUsername(adminUsername)) {
                 User admin = new User();
                 admin.setUsername(adminUsername);
                 admin.setName("Administrator");
                 admin.setPassword(passwordEncoder.encode("admin123")); // Change password for production
                 admin.setRole("ROLE_ADMIN");
                 userRepository.save(admin);
+                usernameFilter.add(adminUsername);
             }
         };
     }
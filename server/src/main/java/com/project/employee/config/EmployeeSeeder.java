@@ -1,6 +1,7 @@
 package com.project.employee.config;
 
 import com.project.employee.model.Employee;
+import com.project.employee.repository.EmployeeBatchWriter;
 import com.project.employee.repository.EmployeeRepository;
 import com.github.javafaker.Faker;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 public class EmployeeSeeder implements CommandLineRunner {
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeBatchWriter batchWriter;
     private final Faker faker = new Faker();
 
     @Override
@@ -57,14 +59,14 @@ public class EmployeeSeeder implements CommandLineRunner {
 
                 // Insert in batches of 100
                 if ((i + 1) % 100 == 0 && !employees.isEmpty()) {
-                    employeeRepository.saveAll(employees);
+                    batchWriter.insertAll(employees);
                     employees.clear();
                 }
             }
 
             // Save any remaining employees
             if (!employees.isEmpty()) {
-                employeeRepository.saveAll(employees);
+                batchWriter.insertAll(employees);
             }
         }
     }
@@ -0,0 +1,23 @@
+package com.project.employee.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.project.employee.cache.EmployeeJsonCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Jackson modules; Boot registers every {@link Module} bean with the application's ObjectMapper. */
+@Configuration
+public class JacksonConfig {
+
+    /** Replaces reflective getter calls and constructor use with generated lambdas for every bean. */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module employeeJsonModule(EmployeeJsonCache employeeJsonCache) {
+        return employeeJsonCache.module();
+    }
+}
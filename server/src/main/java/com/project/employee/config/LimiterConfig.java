@@ -0,0 +1,42 @@
+package com.project.employee.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employee.limit.AdaptiveConcurrencyLimiter;
+import com.project.employee.limit.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+public class LimiterConfig {
+
+    /**
+     * Caps concurrent logins and registrations. Both spend most of their time in BCrypt,
+     * so they share one limiter, starting at one slot per core. It runs before the
+     * security chain so that rejected requests cost next to nothing.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> authLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${auth.limiter.min-limit:1}") int minLimit,
+            @Value("${auth.limiter.max-limit:0}") int maxLimit,
+            @Value("${auth.limiter.max-queue:50}") int maxQueue,
+            @Value("${auth.limiter.max-wait:2s}") Duration maxWait,
+            @Value("${auth.limiter.latency-tolerance:2.0}") double tolerance) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                cores, minLimit, maxLimit > 0 ? maxLimit : cores * 4, maxQueue, maxWait, tolerance);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter("auth", limiter, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/auth/login", "/api/auth/register");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
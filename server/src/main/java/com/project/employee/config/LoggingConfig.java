@@ -0,0 +1,22 @@
+package com.project.employee.config;
+
+import com.project.employee.logging.RequestIdFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class LoggingConfig {
+
+    /** First of all filters, so that every log line of a request carries its id. */
+    @Bean
+    public FilterRegistrationBean<RequestIdFilter> requestIdFilter(
+            @Value("${logging.sampling.debug-rate:0}") double debugSampleRate) {
+        FilterRegistrationBean<RequestIdFilter> registration =
+                new FilterRegistrationBean<>(new RequestIdFilter(debugSampleRate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.employee.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employee.metrics.StageMetricsFilter;
+import com.project.employee.metrics.TimedJacksonConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+public class MetricsConfig {
+
+    /** Runs right after the request id filter, so that the stages of every other filter fall inside its request. */
+    @Bean
+    public FilterRegistrationBean<StageMetricsFilter> stageMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StageMetricsFilter> registration =
+                new FilterRegistrationBean<>(new StageMetricsFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /** Replaces Boot's default JSON converter with one that times serialization. */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonConverter(objectMapper);
+    }
+}
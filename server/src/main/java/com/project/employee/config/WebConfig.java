@@ -16,6 +16,8 @@ public class WebConfig {
                         .allowedOrigins("http://localhost:3000", "https://13ebb579cbdd.ngrok-free.app/")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        // lets the app read the version it must send back in If-Match
+                        .exposedHeaders("ETag")
                         .allowCredentials(true)
                         .maxAge(3600);
             }
@@ -0,0 +1,52 @@
+package com.project.employee.controller;
+
+import com.project.employee.dto.PayrollSummary;
+import com.project.employee.dto.SalaryDistribution;
+import com.project.employee.service.EmployeeService;
+import com.project.employee.spec.EmployeeFilter;
+import com.project.employee.spec.MatchMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final EmployeeService employeeService;
+
+    /** Headcount and salary figures overall, per position and per start month. */
+    @GetMapping("/payroll")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<PayrollSummary> getPayroll() {
+        return ResponseEntity.ok(employeeService.getPayrollSummary());
+    }
+
+    /**
+     * Salary p10/p50/p90 and a histogram with {@code bucketWidth} wide buckets, for the
+     * employees matching the position and start date criteria of the filter endpoint.
+     */
+    @GetMapping("/salaries")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<SalaryDistribution> getSalaryDistribution(
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startWorkDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startWorkDateTo,
+            @RequestParam(defaultValue = "CONTAINS") MatchMode match,
+            @RequestParam(defaultValue = "10000") double bucketWidth) {
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setPosition(position);
+        filter.setStartWorkDateFrom(startWorkDateFrom);
+        filter.setStartWorkDateTo(startWorkDateTo);
+        filter.setMatchMode(match);
+        return ResponseEntity.ok(employeeService.getSalaryDistribution(filter, bucketWidth));
+    }
+}
@@ -50,16 +50,20 @@ public class AuthController {
 
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response) {
-        // Get refresh token from cookie
+        // Get both tokens from cookies
+        String accessToken = null;
+        String refreshToken = null;
         Cookie[] cookies = request.getCookies();
         if (cookies != null) {
             for (Cookie cookie : cookies) {
-                if ("refreshToken".equals(cookie.getName())) {
-                    authService.logout(cookie.getValue());
-                    break;
+                if ("accessToken".equals(cookie.getName())) {
+                    accessToken = cookie.getValue();
+                } else if ("refreshToken".equals(cookie.getName())) {
+                    refreshToken = cookie.getValue();
                 }
             }
         }
+        authService.logout(refreshToken, accessToken);
 
         // Clear cookies
         Cookie accessTokenCookie = new Cookie("accessToken", null);
@@ -0,0 +1,105 @@
+package com.project.employee.controller;
+
+import com.project.employee.dto.FacetCount;
+import com.project.employee.dto.Versioned;
+import com.project.employee.spec.Facet;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ETags built from row versions. A single row's ETag is its version. A page's ETag hashes
+ * the id and version of every row on it together with the totals, cursor and facets, so
+ * it changes whenever any part of the page does.
+ *
+ * <p>Responses carrying an ETag are marked {@code no-cache, private}: the browser keeps
+ * them, but revalidates with {@code If-None-Match} on every use.
+ */
+final class ETags {
+
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static <T extends Versioned> String of(PagedResponse<T> page) {
+        long hash = FNV_OFFSET;
+        for (T row : page.getContent()) {
+            hash = mix(hash, row.getId());
+            hash = mix(hash, row.getVersion());
+        }
+        hash = mix(hash, page.getTotalElements());
+        hash = mix(hash, page.getTotalType().ordinal());
+        hash = mix(hash, page.isHasNext() ? 1 : 0);
+        hash = mix(hash, Objects.hashCode(page.getNextCursor()));
+        if (page.getFacets() != null) {
+            for (Map.Entry<Facet, List<FacetCount>> facet : page.getFacets().entrySet()) {
+                hash = mix(hash, facet.getKey().name().hashCode());
+                for (FacetCount count : facet.getValue()) {
+                    hash = mix(hash, Objects.hashCode(count.getValue()));
+                    hash = mix(hash, count.getCount());
+                }
+            }
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * A page with its ETag. Spring answers a matching {@code If-None-Match} with 304
+     * itself and then never serializes the body.
+     */
+    static <T extends Versioned> ResponseEntity<PagedResponse<T>> page(PagedResponse<T> page) {
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(of(page)).body(page);
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).eTag(etag).build();
+    }
+
+    /**
+     * The versions an {@code If-Match} header accepts: null when it is absent or {@code *},
+     * otherwise those of its strong ETags. Weak ETags never match, so they add nothing.
+     */
+    static Collection<Long> acceptedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>();
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                try {
+                    versions.add(Long.parseLong(value.substring(1, value.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // not one of ours: cannot match
+                }
+            }
+        }
+        return versions;
+    }
+
+    private static long mix(long hash, Long value) {
+        return mix(hash, value == null ? -1 : value);
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
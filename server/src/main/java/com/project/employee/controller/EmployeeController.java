@@ -1,22 +1,35 @@
 package com.project.employee.controller;
 
+import com.project.employee.dto.BulkCreateResult;
 import com.project.employee.dto.CreateEmployeeRequest;
 import com.project.employee.dto.EmployeeDto;
+import com.project.employee.dto.FacetCount;
 import com.project.employee.dto.UpdateEmployeeRequest;
+import com.project.employee.export.ExportFormat;
 import com.project.employee.service.EmployeeService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import com.project.employee.spec.CountMode;
 import com.project.employee.spec.EmployeeFilter;
+import com.project.employee.spec.Facet;
+import com.project.employee.spec.MatchMode;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -33,15 +46,18 @@ public class EmployeeController {
 
     @PostMapping("/bulk")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<List<EmployeeDto>> createEmployees(@Valid @RequestBody List<CreateEmployeeRequest> requests) {
+    public ResponseEntity<BulkCreateResult<EmployeeDto>> createEmployees(@Valid @RequestBody List<CreateEmployeeRequest> requests) {
         return ResponseEntity.ok(employeeService.createEmployees(requests));
     }
 
+    /** With {@code If-Match}, only applied if the employee is still at that ETag; 412 otherwise. */
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     public ResponseEntity<EmployeeDto> updateEmployee(@PathVariable Long id,
-                                                    @Valid @RequestBody UpdateEmployeeRequest request) {
-        return ResponseEntity.ok(employeeService.updateEmployee(id, request));
+                                                    @Valid @RequestBody UpdateEmployeeRequest request,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EmployeeDto employee = employeeService.updateEmployee(id, request, ETags.acceptedVersions(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(employee.getVersion())).body(employee);
     }
 
     @DeleteMapping("/{id}")
@@ -53,24 +69,60 @@ public class EmployeeController {
 
     @DeleteMapping("/bulk")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<Void> deleteEmployees(@RequestBody List<Long> ids) {
-        employeeService.deleteEmployees(ids);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<List<Long>> deleteEmployees(@RequestBody List<Long> ids) {
+        // Only the ids that existed are returned
+        return ResponseEntity.ok(employeeService.deleteEmployees(ids));
+    }
+
+    /** Deletes every employee matching the filter, in bounded chunks; at least one criterion is required. */
+    @DeleteMapping("/filter")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<Map<String, Long>> deleteEmployees(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) Double minSalary,
+            @RequestParam(required = false) Double maxSalary,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startWorkDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startWorkDateTo,
+            @RequestParam(defaultValue = "CONTAINS") MatchMode match) {
+        EmployeeFilter filter = toFilter(name, email, position, minSalary, maxSalary,
+                startWorkDateFrom, startWorkDateTo, match);
+        return ResponseEntity.ok(Map.of("deleted", employeeService.deleteEmployees(filter)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDto> getEmployee(@PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    public ResponseEntity<EmployeeDto> getEmployee(@PathVariable Long id, WebRequest request) {
+        // A revalidation is answered from the version alone: on a match nothing is loaded or serialized
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String current = ETags.of(employeeService.getEmployeeVersion(id));
+            if (request.checkNotModified(current)) {
+                return ETags.notModified(current);
+            }
+        }
+        EmployeeDto employee = employeeService.getEmployeeById(id);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).eTag(ETags.of(employee.getVersion())).body(employee);
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     public ResponseEntity<PagedResponse<EmployeeDto>> getAllEmployees(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "EXACT") CountMode count) {
+        if (after != null) {
+            return ETags.page(new PagedResponse<>(
+                    employeeService.scrollEmployees(new EmployeeFilter(), sort, after, size)));
+        }
         Pageable pageable = PageRequest.of(page, size);
+        if (count != CountMode.EXACT) {
+            return ETags.page(new PagedResponse<>(
+                    employeeService.filterEmployees(new EmployeeFilter(), pageable, count)));
+        }
         Page<EmployeeDto> employeePage = employeeService.getAllEmployees(pageable);
-        return ResponseEntity.ok(new PagedResponse<>(employeePage));
+        return ETags.page(new PagedResponse<>(employeePage));
     }
 
     @GetMapping("/filter")
@@ -83,9 +135,58 @@ public class EmployeeController {
             @RequestParam(required = false) Double maxSalary,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startWorkDateFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startWorkDateTo,
+            @RequestParam(defaultValue = "CONTAINS") MatchMode match,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @RequestParam(required = false) Set<Facet> facets,
+            @RequestParam(defaultValue = "10000") double salaryBandWidth) {
+
+        EmployeeFilter filter = toFilter(name, email, position, minSalary, maxSalary,
+                startWorkDateFrom, startWorkDateTo, match);
+        Map<Facet, List<FacetCount>> facetCounts = facets == null || facets.isEmpty()
+                ? null : employeeService.countFacets(filter, facets, salaryBandWidth);
+
+        // Keyset mode: "after=" (empty) starts a scan, a cursor continues it
+        if (after != null) {
+            return ETags.page(new PagedResponse<>(
+                    employeeService.scrollEmployees(filter, sort, after, size), facetCounts));
+        }
+
+        Pageable pageable = PageRequest.of(page, size);
+        Slice<EmployeeDto> employeePage = employeeService.filterEmployees(filter, pageable, count);
+        return ETags.page(new PagedResponse<>(employeePage, facetCounts));
+    }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public void exportEmployees(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) Double minSalary,
+            @RequestParam(required = false) Double maxSalary,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startWorkDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startWorkDateTo,
+            @RequestParam(defaultValue = "CONTAINS") MatchMode match,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+
+        EmployeeFilter filter = toFilter(name, email, position, minSalary, maxSalary,
+                startWorkDateFrom, startWorkDateTo, match);
+
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"employees." + format.getExtension() + "\"");
+        employeeService.exportEmployees(filter, format, response.getOutputStream());
+    }
+
+    private static EmployeeFilter toFilter(String name, String email, String position, Double minSalary,
+                                           Double maxSalary, LocalDate startWorkDateFrom, LocalDate startWorkDateTo,
+                                           MatchMode match) {
         EmployeeFilter filter = new EmployeeFilter();
         filter.setName(name);
         filter.setEmail(email);
@@ -94,9 +195,7 @@ public class EmployeeController {
         filter.setMaxSalary(maxSalary);
         filter.setStartWorkDateFrom(startWorkDateFrom);
         filter.setStartWorkDateTo(startWorkDateTo);
-
-        Pageable pageable = PageRequest.of(page, size);
-        Page<EmployeeDto> employeePage = employeeService.filterEmployees(filter, pageable);
-        return ResponseEntity.ok(new PagedResponse<>(employeePage));
+        filter.setMatchMode(match);
+        return filter;
     }
 }
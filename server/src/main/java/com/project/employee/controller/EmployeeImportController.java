@@ -0,0 +1,59 @@
+package com.project.employee.controller;
+
+import com.project.employee.dto.ImportJobDto;
+import com.project.employee.dto.ImportJobErrorDto;
+import com.project.employee.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/employees/imports")
+@RequiredArgsConstructor
+public class EmployeeImportController {
+
+    private final ImportJobService importJobService;
+
+    /** Stores the CSV file and queues an import job; poll the returned job for progress. */
+    @PostMapping(consumes = "multipart/form-data")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<ImportJobDto> submit(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobService.submit(file));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<PagedResponse<ImportJobDto>> getJobs(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+        return ResponseEntity.ok(new PagedResponse<>(importJobService.getJobs(pageable)));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<ImportJobDto> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(importJobService.getJob(id));
+    }
+
+    @GetMapping("/{id}/errors")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<PagedResponse<ImportJobErrorDto>> getErrors(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(new PagedResponse<>(importJobService.getErrors(id, PageRequest.of(page, size))));
+    }
+
+    /** Continues a failed job after its last committed chunk. */
+    @PostMapping("/{id}/resume")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<ImportJobDto> resume(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobService.resume(id));
+    }
+}
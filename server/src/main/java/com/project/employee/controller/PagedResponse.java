@@ -1,26 +1,75 @@
 package com.project.employee.controller;
 
+import com.project.employee.dto.ApproximatePage;
+import com.project.employee.dto.FacetCount;
+import com.project.employee.dto.KeysetPage;
+import com.project.employee.spec.Facet;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
+import java.util.Map;
 
 public class PagedResponse<T> {
+    /** Whether {@code totalElements} is an exact count, a recently cached one, or was not computed. */
+    public enum TotalType { EXACT, APPROXIMATE, MISSING }
+
     private final List<T> content;
-    private final int page;
+    private final Integer page;
     private final int size;
-    private final long totalElements;
-    private final int totalPages;
+    private final Long totalElements;
+    private final Integer totalPages;
+    private final TotalType totalType;
+    private final boolean hasNext;
+    private final String nextCursor;
+    /** Counts per requested facet over all matching rows, not just this page; null when none were requested. */
+    private final Map<Facet, List<FacetCount>> facets;
+
+    public PagedResponse(Slice<T> slice) {
+        this(slice, null);
+    }
+
+    public PagedResponse(Slice<T> slice, Map<Facet, List<FacetCount>> facets) {
+        this.content = slice.getContent();
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+        this.nextCursor = null;
+        if (slice instanceof Page<T> page) {
+            this.totalElements = page.getTotalElements();
+            this.totalPages = page.getTotalPages();
+            this.totalType = page instanceof ApproximatePage ? TotalType.APPROXIMATE : TotalType.EXACT;
+        } else {
+            this.totalElements = null;
+            this.totalPages = null;
+            this.totalType = TotalType.MISSING;
+        }
+        this.facets = facets;
+    }
+
+    /** Keyset page: no page number or totals, the client continues with {@code after=nextCursor}. */
+    public PagedResponse(KeysetPage<T> page) {
+        this(page, null);
+    }
 
-    public PagedResponse(Page<T> page) {
+    public PagedResponse(KeysetPage<T> page, Map<Facet, List<FacetCount>> facets) {
         this.content = page.getContent();
-        this.page = page.getNumber();
+        this.page = null;
         this.size = page.getSize();
-        this.totalElements = page.getTotalElements();
-        this.totalPages = page.getTotalPages();
+        this.totalElements = null;
+        this.totalPages = null;
+        this.totalType = TotalType.MISSING;
+        this.hasNext = page.isHasNext();
+        this.nextCursor = page.getNextCursor();
+        this.facets = facets;
     }
 
     public List<T> getContent() { return content; }
-    public int getPage() { return page; }
+    public Integer getPage() { return page; }
     public int getSize() { return size; }
-    public long getTotalElements() { return totalElements; }
-    public int getTotalPages() { return totalPages; }
-}
\ No newline at end of file
+    public Long getTotalElements() { return totalElements; }
+    public Integer getTotalPages() { return totalPages; }
+    public TotalType getTotalType() { return totalType; }
+    public boolean isHasNext() { return hasNext; }
+    public String getNextCursor() { return nextCursor; }
+    public Map<Facet, List<FacetCount>> getFacets() { return facets; }
+}
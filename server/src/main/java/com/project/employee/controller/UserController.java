@@ -1,5 +1,6 @@
 package com.project.employee.controller;
 
+import com.project.employee.dto.BulkCreateResult;
 import com.project.employee.dto.BulkUpdateUserRequest;
 import com.project.employee.dto.CreateUserRequest;
 import com.project.employee.dto.UpdateUserRequest;
@@ -9,10 +10,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import com.project.employee.spec.CountMode;
 import com.project.employee.spec.UserFilter;
 import java.util.List;
 
@@ -31,15 +34,18 @@ public class UserController {
 
     @PostMapping("/bulk")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserDto>> createUsers(@Valid @RequestBody List<CreateUserRequest> requests) {
+    public ResponseEntity<BulkCreateResult<UserDto>> createUsers(@Valid @RequestBody List<CreateUserRequest> requests) {
         return ResponseEntity.ok(userService.createUsers(requests));
     }
 
+    /** With {@code If-Match}, only applied if the user is still at that ETag; 412 otherwise. */
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserDto> updateUser(@PathVariable Long id,
-                                            @Valid @RequestBody UpdateUserRequest request) {
-        return ResponseEntity.ok(userService.updateUser(id, request));
+                                            @Valid @RequestBody UpdateUserRequest request,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserDto user = userService.updateUser(id, request, ETags.acceptedVersions(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(user.getVersion())).body(user);
     }
 
     @PutMapping("/bulk")
@@ -57,17 +63,26 @@ public class UserController {
 
     @DeleteMapping("/bulk")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteUsers(@RequestBody List<Long> ids) {
-        userService.deleteUsers(ids);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<List<Long>> deleteUsers(@RequestBody List<Long> ids) {
+        // Only the ids that existed are returned
+        return ResponseEntity.ok(userService.deleteUsers(ids));
     }
 
     @GetMapping("")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public PagedResponse<UserDto> getAllUsers(
+    public ResponseEntity<PagedResponse<UserDto>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return new PagedResponse<>(userService.getAllUsers(PageRequest.of(page, size)));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "EXACT") CountMode count) {
+        if (after != null) {
+            return ETags.page(new PagedResponse<>(userService.scrollUsers(new UserFilter(), sort, after, size)));
+        }
+        if (count != CountMode.EXACT) {
+            return ETags.page(new PagedResponse<>(userService.filterUsers(new UserFilter(), PageRequest.of(page, size), count)));
+        }
+        return ETags.page(new PagedResponse<>(userService.getAllUsers(PageRequest.of(page, size))));
     }
 
     @GetMapping("/filter")
@@ -77,15 +92,23 @@ public class UserController {
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String role,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "EXACT") CountMode count) {
 
         UserFilter filter = new UserFilter();
         filter.setUsername(username);
         filter.setName(name);
         filter.setRole(role);
 
+        // Keyset mode: "after=" (empty) starts a scan, a cursor continues it
+        if (after != null) {
+            return ETags.page(new PagedResponse<>(userService.scrollUsers(filter, sort, after, size)));
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserDto> userPage = userService.filterUsers(filter, pageable);
-        return ResponseEntity.ok(new PagedResponse<>(userPage));
+        Slice<UserDto> userPage = userService.filterUsers(filter, pageable, count);
+        return ETags.page(new PagedResponse<>(userPage));
     }
 }
\ No newline at end of file
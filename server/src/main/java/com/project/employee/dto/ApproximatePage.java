@@ -0,0 +1,13 @@
+package com.project.employee.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/** A page whose total was served from a short-lived cache and may lag recent writes. */
+public class ApproximatePage<T> extends PageImpl<T> {
+    public ApproximatePage(List<T> content, Pageable pageable, long total) {
+        super(content, pageable, total);
+    }
+}
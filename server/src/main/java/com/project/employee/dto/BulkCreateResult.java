@@ -0,0 +1,14 @@
+package com.project.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/** Outcome of a bulk create: the rows that were inserted and the ones rejected with a reason. */
+@Data
+@AllArgsConstructor
+public class BulkCreateResult<T> {
+    private List<T> created;
+    private List<BulkRowError> errors;
+}
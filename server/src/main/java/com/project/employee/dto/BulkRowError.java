@@ -0,0 +1,13 @@
+package com.project.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** A rejected element of a bulk request, identified by its position in the request body. */
+@Data
+@AllArgsConstructor
+public class BulkRowError {
+    private int index;
+    private String key;
+    private String message;
+}
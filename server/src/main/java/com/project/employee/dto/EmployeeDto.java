@@ -1,11 +1,15 @@
 package com.project.employee.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
 @Data
-public class EmployeeDto {
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeDto implements Versioned {
     private Long id;
     private String firstName;
     private String lastName;
@@ -14,4 +18,5 @@ public class EmployeeDto {
     private String position;
     private Double salary;
     private LocalDate startWorkDate;
+    private Long version;
 }
@@ -0,0 +1,12 @@
+package com.project.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** Matching employees with one facet value; the value is null for employees without one. */
+@Data
+@AllArgsConstructor
+public class FacetCount {
+    private String value;
+    private long count;
+}
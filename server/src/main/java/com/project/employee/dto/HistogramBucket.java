@@ -0,0 +1,13 @@
+package com.project.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** Number of salaries in {@code [from, to)}. */
+@Data
+@AllArgsConstructor
+public class HistogramBucket {
+    private double from;
+    private double to;
+    private long count;
+}
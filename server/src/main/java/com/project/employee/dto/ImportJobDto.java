@@ -0,0 +1,24 @@
+package com.project.employee.dto;
+
+import com.project.employee.model.ImportJobStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ImportJobDto {
+    private Long id;
+    private String fileName;
+    private ImportJobStatus status;
+    private long totalBytes;
+    private long bytesProcessed;
+    private double percentComplete;
+    private long rowsProcessed;
+    private long rowsCreated;
+    private long rowsFailed;
+    private double rowsPerSecond;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
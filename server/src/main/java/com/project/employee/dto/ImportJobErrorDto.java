@@ -0,0 +1,10 @@
+package com.project.employee.dto;
+
+import lombok.Data;
+
+@Data
+public class ImportJobErrorDto {
+    private long lineNumber;
+    private String rowKey;
+    private String message;
+}
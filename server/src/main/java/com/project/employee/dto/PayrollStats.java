@@ -0,0 +1,15 @@
+package com.project.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** Headcount and salary figures of a group of employees; salary figures ignore employees without a salary. */
+@Data
+@AllArgsConstructor
+public class PayrollStats {
+    private long headcount;
+    private double totalSalary;
+    private Double averageSalary;
+    private Double minSalary;
+    private Double maxSalary;
+}
@@ -0,0 +1,17 @@
+package com.project.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/** Payroll figures overall, per position and per start month ({@code yyyy-MM}). */
+@Data
+@AllArgsConstructor
+public class PayrollSummary {
+    private PayrollStats total;
+    private Map<String, PayrollStats> byPosition;
+    private Map<String, PayrollStats> byStartMonth;
+    /** False until the aggregates have been loaded from the table after startup. */
+    private boolean ready;
+}
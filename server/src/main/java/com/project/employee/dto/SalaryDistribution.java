@@ -0,0 +1,28 @@
+package com.project.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Salary percentiles and histogram of the employees in scope. Percentiles are within
+ * {@code relativeAccuracy} of the true value, and a salary that close to a histogram
+ * bucket edge may be counted in the neighbouring bucket. The start date scope is widened
+ * to whole months; {@code from} and {@code to} give the range actually covered.
+ */
+@Data
+@AllArgsConstructor
+public class SalaryDistribution {
+    private long count;
+    private LocalDate from;
+    private LocalDate to;
+    private Double p10;
+    private Double p50;
+    private Double p90;
+    private double relativeAccuracy;
+    private List<HistogramBucket> histogram;
+    /** False until the aggregates have been loaded from the table after startup. */
+    private boolean ready;
+}
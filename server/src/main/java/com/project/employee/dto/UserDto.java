@@ -1,15 +1,19 @@
 package com.project.employee.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
-public class UserDto {
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDto implements Versioned {
     private Long id;
     private String name;
     private String username;
     private String role;
-    private String refreshToken;
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+    private Long version;
+}
@@ -0,0 +1,7 @@
+package com.project.employee.dto;
+
+/** A representation of one row, which changes exactly when the row's version does. */
+public interface Versioned {
+    Long getId();
+    Long getVersion();
+}
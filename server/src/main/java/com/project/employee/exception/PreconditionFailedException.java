@@ -0,0 +1,8 @@
+package com.project.employee.exception;
+
+/** An {@code If-Match} precondition did not hold; answered with 412. */
+public class PreconditionFailedException extends ApiException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
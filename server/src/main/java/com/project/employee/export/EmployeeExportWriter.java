@@ -0,0 +1,100 @@
+package com.project.employee.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.project.employee.dto.EmployeeDto;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/** Writes employees to an output stream row by row, without collecting them first. */
+@Component
+public class EmployeeExportWriter {
+
+    private static final String CSV_HEADER = "id,firstName,lastName,email,phone,position,salary,startWorkDate";
+
+    private final ObjectWriter ndjsonWriter;
+
+    public EmployeeExportWriter(ObjectMapper objectMapper) {
+        this.ndjsonWriter = objectMapper.writerFor(EmployeeDto.class).withRootValueSeparator("\n");
+    }
+
+    /** @return number of rows written */
+    public long write(Stream<EmployeeDto> rows, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        long count = switch (format) {
+            case CSV -> writeCsv(rows, writer);
+            case NDJSON -> writeNdjson(rows, writer);
+        };
+        writer.flush();
+        return count;
+    }
+
+    private long writeCsv(Stream<EmployeeDto> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long[] count = {0};
+        rows.forEach(dto -> {
+            try {
+                writer.write(String.valueOf(dto.getId()));
+                writer.write(',');
+                writer.write(csv(dto.getFirstName()));
+                writer.write(',');
+                writer.write(csv(dto.getLastName()));
+                writer.write(',');
+                writer.write(csv(dto.getEmail()));
+                writer.write(',');
+                writer.write(csv(dto.getPhone()));
+                writer.write(',');
+                writer.write(csv(dto.getPosition()));
+                writer.write(',');
+                writer.write(dto.getSalary() == null ? "" : dto.getSalary().toString());
+                writer.write(',');
+                writer.write(dto.getStartWorkDate() == null ? "" : dto.getStartWorkDate().toString());
+                writer.write('\n');
+                count[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return count[0];
+    }
+
+    private long writeNdjson(Stream<EmployeeDto> rows, Writer writer) throws IOException {
+        long[] count = {0};
+        // SequenceWriter must not close the response writer, we only flush it
+        try (SequenceWriter sequence = ndjsonWriter.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValues(writer)) {
+            rows.forEach(dto -> {
+                try {
+                    sequence.write(dto);
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (count[0] > 0) {
+            writer.write('\n');
+        }
+        return count[0];
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
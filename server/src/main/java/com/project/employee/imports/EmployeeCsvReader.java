@@ -0,0 +1,219 @@
+package com.project.employee.imports;
+
+import com.project.employee.dto.CreateEmployeeRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads employee CSV files record by record. The first line is a header naming the
+ * columns, in any order and case; the layout written by the CSV export is accepted
+ * as is (its {@code id} column is ignored). Quoted fields may contain commas, doubled
+ * quotes and line breaks.
+ */
+public class EmployeeCsvReader implements Closeable {
+
+    static final List<String> REQUIRED_COLUMNS = List.of("firstname", "lastname", "email", "salary", "startworkdate");
+
+    /** One data record; {@code request} is null when a field could not be parsed, see {@code error}. */
+    public record Row(long lineNumber, CreateEmployeeRequest request, String key, String error) {
+    }
+
+    private final CountingInputStream counter;
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line = 1;
+    private int pushback = -1;
+
+    public EmployeeCsvReader(InputStream in) {
+        this.counter = new CountingInputStream(in);
+        this.reader = new BufferedReader(new InputStreamReader(counter, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /** Reads the header line; must be called once before {@link #next()}. */
+    public void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip().toLowerCase(Locale.ROOT);
+            // a UTF-8 BOM ends up in front of the first column name
+            columns.putIfAbsent(name.startsWith("\uFEFF") ? name.substring(1) : name, i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("Missing CSV column: " + column);
+            }
+        }
+    }
+
+    /** @return the next data record, or null at end of file */
+    public Row next() throws IOException {
+        List<String> fields;
+        long start;
+        do {
+            start = line;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+        return toRow(start, fields);
+    }
+
+    /** Skips {@code count} data records, e.g. the ones a resumed job already imported. */
+    public void skip(long count) throws IOException {
+        for (long i = 0; i < count && next() != null; i++) {
+            // records are only counted
+        }
+    }
+
+    /** Bytes consumed from the underlying stream so far; runs ahead of {@link #next()} by at most one buffer. */
+    public long bytesRead() {
+        return counter.count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row toRow(long lineNumber, List<String> fields) {
+        String email = field(fields, "email");
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        request.setFirstName(field(fields, "firstname"));
+        request.setLastName(field(fields, "lastname"));
+        request.setEmail(email);
+        request.setPhone(field(fields, "phone"));
+        request.setPosition(field(fields, "position"));
+        String salary = field(fields, "salary");
+        String startWorkDate = field(fields, "startworkdate");
+        try {
+            request.setSalary(salary == null ? null : Double.valueOf(salary));
+        } catch (NumberFormatException e) {
+            return new Row(lineNumber, null, email, "Invalid salary: " + salary);
+        }
+        try {
+            request.setStartWorkDate(startWorkDate == null ? null : LocalDate.parse(startWorkDate));
+        } catch (DateTimeParseException e) {
+            return new Row(lineNumber, null, email, "Invalid start work date: " + startWorkDate);
+        }
+        return new Row(lineNumber, request, email, null);
+    }
+
+    /** Trimmed field value, null when the column is absent or the field is blank. */
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c < 0) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c >= 0) {
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                line++;
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (pushback != -1) {
+            int c = pushback;
+            pushback = -1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
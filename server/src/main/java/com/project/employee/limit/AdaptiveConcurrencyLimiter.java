@@ -0,0 +1,193 @@
+package com.project.employee.limit;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limiter whose limit follows latency (AIMD). Every successful call is a
+ * latency sample, compared against a baseline: the 10th percentile of the last 100
+ * samples. A sample above {@code tolerance} times the baseline means the protected
+ * resource is saturated, and the limit is cut by 10%. A fast sample taken while at
+ * least half the limit was in use raises the limit by one.
+ *
+ * <p>Calls that never reached the protected resource, such as failed validations,
+ * should be released with {@link Permit#skipSample()}; their latency says nothing
+ * about it. The percentile keeps the odd fast success from dragging the baseline
+ * down, and the window lets it follow a resource that has become slower for good.
+ *
+ * <p>Callers over the limit wait in a bounded queue for at most {@code maxWait}. A
+ * full queue rejects at once with {@link Rejection#QUEUE_FULL}, and a wait that runs
+ * out rejects with {@link Rejection#TIMEOUT}.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Rejection { QUEUE_FULL, TIMEOUT }
+
+    public static class RejectedException extends RuntimeException {
+        private final Rejection reason;
+
+        RejectedException(Rejection reason) {
+            super(reason == Rejection.QUEUE_FULL ? "Too many concurrent requests" : "Timed out waiting for capacity");
+            this.reason = reason;
+        }
+
+        public Rejection getReason() {
+            return reason;
+        }
+    }
+
+    /** Held for the duration of one call; closing it releases the slot and records the latency. */
+    public final class Permit implements AutoCloseable {
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private boolean sampled = true;
+        private boolean closed;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            release(sampled ? clock.getAsLong() - startNanos : -1, inFlightAtStart);
+        }
+
+        /** Releases the slot on close without recording the call's latency or adjusting the limit. */
+        public void skipSample() {
+            sampled = false;
+        }
+    }
+
+    private static final double BACKOFF = 0.9;
+    private static final int BASELINE_WINDOW = 100;
+    private static final double BASELINE_PERCENTILE = 0.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final double tolerance;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private final long[] samples = new long[BASELINE_WINDOW];
+    private int sampleCount;
+    private int nextSample;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue,
+                                      Duration maxWait, double tolerance) {
+        this(initialLimit, minLimit, maxLimit, maxQueue, maxWait, tolerance, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue,
+                               Duration maxWait, double tolerance, LongSupplier clock) {
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.tolerance = tolerance;
+        this.clock = clock;
+    }
+
+    /** Takes a slot, waiting in the queue if needed. @throws RejectedException when no slot is available in time */
+    public Permit acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                if (queued >= maxQueue) {
+                    throw new RejectedException(Rejection.QUEUE_FULL);
+                }
+                queued++;
+                try {
+                    long remaining = maxWaitNanos;
+                    while (inFlight >= (int) limit) {
+                        if (remaining <= 0) {
+                            throw new RejectedException(Rejection.TIMEOUT);
+                        }
+                        remaining = released.awaitNanos(remaining);
+                    }
+                } finally {
+                    queued--;
+                }
+            }
+            inFlight++;
+            return new Permit(clock.getAsLong(), inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @param rttNanos the call's latency, or negative when it is not a sample */
+    private void release(long rttNanos, int inFlightAtStart) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (rttNanos >= 0) {
+                if (rttNanos > record(rttNanos) * tolerance) {
+                    limit = Math.max(minLimit, limit * BACKOFF);
+                } else if (inFlightAtStart * 2 >= limit) {
+                    limit = Math.min(maxLimit, limit + 1);
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Adds a sample to the window and returns the new baseline. */
+    private long record(long rttNanos) {
+        samples[nextSample] = rttNanos;
+        nextSample = (nextSample + 1) % samples.length;
+        sampleCount = Math.min(sampleCount + 1, samples.length);
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        return sorted[(int) (sampleCount * BASELINE_PERCENTILE)];
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Suggested Retry-After, in seconds. */
+    public long retryAfterSeconds() {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(maxWaitNanos));
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.employee.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Runs requests through an {@link AdaptiveConcurrencyLimiter}. A request turned away
+ * because the wait queue is full gets a 429, and one that waited too long gets a 503.
+ * Both carry a {@code Retry-After} header and never reach the controller. Only
+ * successful (2xx) responses feed the limiter's latency samples; errors and rejections
+ * are usually answered before the limited work is done. The limiter is published as {@code http.limiter.*} meters tagged with its name.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public ConcurrencyLimitFilter(String name, AdaptiveConcurrencyLimiter limiter,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        Gauge.builder("http.limiter.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("limiter", name).register(meterRegistry);
+        Gauge.builder("http.limiter.queued", limiter, AdaptiveConcurrencyLimiter::getQueued)
+                .tag("limiter", name).register(meterRegistry);
+        Gauge.builder("http.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("limiter", name).register(meterRegistry);
+        this.queueFull = Counter.builder("http.limiter.rejected")
+                .tag("limiter", name).tag("reason", "queue_full").register(meterRegistry);
+        this.timedOut = Counter.builder("http.limiter.rejected")
+                .tag("limiter", name).tag("reason", "timeout").register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = limiter.acquire();
+        } catch (AdaptiveConcurrencyLimiter.RejectedException e) {
+            boolean full = e.getReason() == AdaptiveConcurrencyLimiter.Rejection.QUEUE_FULL;
+            (full ? queueFull : timedOut).increment();
+            log.debug("Rejected {} {}: {}", request.getMethod(), request.getRequestURI(), e.getMessage());
+            reject(response, full ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for capacity");
+            return;
+        }
+        boolean succeeded = false;
+        try {
+            chain.doFilter(request, response);
+            succeeded = response.getStatus() < 300;
+        } finally {
+            if (!succeeded) {
+                permit.skipSample();
+            }
+            permit.close();
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        Map<String, Object> errorDetails = new HashMap<>();
+        errorDetails.put("status", status.value());
+        errorDetails.put("error", status.getReasonPhrase());
+        errorDetails.put("message", message);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorDetails);
+    }
+}
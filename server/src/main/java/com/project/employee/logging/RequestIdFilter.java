@@ -0,0 +1,58 @@
+package com.project.employee.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Tags every log line of a request with a request id in the MDC. The id is taken from
+ * an incoming {@code X-Request-Id} header when it looks sane, and generated otherwise.
+ * It is echoed back in the response.
+ *
+ * <p>A {@code debugSampleRate} share of requests is also marked as sampled, and
+ * {@link SampledDebugTurboFilter} lets their DEBUG and TRACE lines through even where
+ * those levels are off. In production, verbose logs then cost nothing for most requests
+ * while a complete trace of a few is still kept.
+ */
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_SAMPLED = "sampled";
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final double debugSampleRate;
+
+    public RequestIdFilter(double debugSampleRate) {
+        this.debugSampleRate = debugSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        MDC.put(MDC_REQUEST_ID, requestId);
+        if (debugSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < debugSampleRate) {
+            MDC.put(MDC_SAMPLED, "true");
+        }
+        response.setHeader(HEADER, requestId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_SAMPLED);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.employee.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Accepts DEBUG and TRACE events from application loggers ({@code loggerPrefix}) while
+ * the current request is sampled by {@link RequestIdFilter}, whatever their configured
+ * level. Every other event is left to the normal level check.
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.project.employee";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.INFO) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return MDC.get(RequestIdFilter.MDC_SAMPLED) != null ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
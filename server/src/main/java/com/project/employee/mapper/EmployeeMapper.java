@@ -3,9 +3,16 @@ package com.project.employee.mapper;
 import com.project.employee.dto.EmployeeDto;
 import com.project.employee.model.Employee;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface EmployeeMapper {
     EmployeeDto toDto(Employee employee);
+
+    // Generated by the database from the mapped columns
+    @Mapping(target = "firstNameLc", ignore = true)
+    @Mapping(target = "lastNameLc", ignore = true)
+    @Mapping(target = "emailLc", ignore = true)
+    @Mapping(target = "positionLc", ignore = true)
     Employee toEntity(EmployeeDto dto);
 }
@@ -0,0 +1,30 @@
+package com.project.employee.mapper;
+
+import com.project.employee.dto.ImportJobDto;
+import com.project.employee.dto.ImportJobErrorDto;
+import com.project.employee.model.ImportJob;
+import com.project.employee.model.ImportJobError;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(componentModel = "spring")
+public interface ImportJobMapper {
+
+    @Mapping(target = "percentComplete", ignore = true)
+    @Mapping(target = "rowsPerSecond", ignore = true)
+    ImportJobDto toDto(ImportJob job);
+
+    ImportJobErrorDto toDto(ImportJobError error);
+
+    @AfterMapping
+    default void fillRates(ImportJob job, @MappingTarget ImportJobDto dto) {
+        if (job.getTotalBytes() > 0) {
+            dto.setPercentComplete(Math.min(100.0, 100.0 * job.getBytesProcessed() / job.getTotalBytes()));
+        }
+        if (job.getProcessingMillis() > 0) {
+            dto.setRowsPerSecond(job.getRowsProcessed() * 1000.0 / job.getProcessingMillis());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.employee.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * Collects how long each stage of the current request took. {@link StageMetricsFilter}
+ * opens a {@link Recorder} per request and publishes it as timers once the route is
+ * known. Code running outside a request records nothing. Work handed to another thread
+ * is wrapped with {@link #timed}, which captures the caller's recorder.
+ */
+public final class RequestStages {
+
+    public enum Stage {
+        JWT, SPECIFICATION, QUERY, COUNT, FACETS, MAPPING, SERIALIZATION;
+
+        final String tag = name().toLowerCase();
+    }
+
+    /** Total time per stage for one request; a stage entered twice adds up. */
+    public static final class Recorder {
+        private final long[] nanos = new long[Stage.values().length];
+        private final boolean[] seen = new boolean[Stage.values().length];
+
+        synchronized void add(Stage stage, long elapsed) {
+            nanos[stage.ordinal()] += elapsed;
+            seen[stage.ordinal()] = true;
+        }
+
+        synchronized boolean seen(Stage stage) {
+            return seen[stage.ordinal()];
+        }
+
+        synchronized long nanos(Stage stage) {
+            return nanos[stage.ordinal()];
+        }
+    }
+
+    private static final ThreadLocal<Recorder> CURRENT = new ThreadLocal<>();
+
+    private RequestStages() {
+    }
+
+    public static <T> T time(Stage stage, Supplier<T> work) {
+        return time(CURRENT.get(), stage, work);
+    }
+
+    public static void time(Stage stage, Runnable work) {
+        time(CURRENT.get(), stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /** Adds a duration measured by the caller, e.g. around code that throws checked exceptions. */
+    public static void record(Stage stage, long nanos) {
+        Recorder recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.add(stage, nanos);
+        }
+    }
+
+    /** {@code work} timed into the calling request's recorder, wherever it ends up running. */
+    public static <T> Supplier<T> timed(Stage stage, Supplier<T> work) {
+        Recorder recorder = CURRENT.get();
+        return () -> time(recorder, stage, work);
+    }
+
+    static Recorder open() {
+        Recorder recorder = new Recorder();
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    private static <T> T time(Recorder recorder, Stage stage, Supplier<T> work) {
+        if (recorder == null) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            recorder.add(stage, System.nanoTime() - start);
+        }
+    }
+}
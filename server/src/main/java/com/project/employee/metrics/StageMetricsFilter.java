@@ -0,0 +1,59 @@
+package com.project.employee.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the stages recorded during a request as the {@code http.server.stage}
+ * timer, tagged with the stage, the HTTP method and the route template, e.g.
+ * {@code /api/employees/{id}}. The raw URI is never used as a tag. The route is only
+ * known once the request has been dispatched, so the filter sits outermost and
+ * publishes after the chain returns.
+ */
+public class StageMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC = "http.server.stage";
+
+    private final MeterRegistry meterRegistry;
+
+    public StageMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStages.Recorder recorder = RequestStages.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestStages.close();
+            publish(request, recorder);
+        }
+    }
+
+    private void publish(HttpServletRequest request, RequestStages.Recorder recorder) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? "UNKNOWN" : pattern.toString();
+        for (RequestStages.Stage stage : RequestStages.Stage.values()) {
+            if (recorder.seen(stage)) {
+                Timer.builder(METRIC)
+                        .description("Time spent per request pipeline stage")
+                        .tag("route", route)
+                        .tag("method", request.getMethod())
+                        .tag("stage", stage.tag)
+                        .register(meterRegistry)
+                        .record(recorder.nanos(stage), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
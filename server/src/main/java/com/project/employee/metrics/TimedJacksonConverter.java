@@ -0,0 +1,28 @@
+package com.project.employee.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/** The standard JSON converter, with response writing timed as the serialization stage. */
+public class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestStages.record(RequestStages.Stage.SERIALIZATION, System.nanoTime() - start);
+        }
+    }
+}
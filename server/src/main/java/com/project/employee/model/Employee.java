@@ -5,7 +5,19 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "employee")
+@Table(
+        name = "employee",
+        indexes = {
+                @Index(name = "idx_employee_salary", columnList = "salary"),
+                @Index(name = "idx_employee_start_work_date", columnList = "start_work_date"),
+                @Index(name = "idx_employee_last_name", columnList = "last_name"),
+                @Index(name = "idx_employee_position_lc_salary", columnList = "position_lc, salary"),
+                @Index(name = "idx_employee_position_lc_start", columnList = "position_lc, start_work_date"),
+                @Index(name = "idx_employee_first_name_lc", columnList = "first_name_lc"),
+                @Index(name = "idx_employee_last_name_lc", columnList = "last_name_lc"),
+                @Index(name = "idx_employee_email_lc", columnList = "email_lc")
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,4 +48,26 @@ public class Employee {
 
     @Column(name = "start_work_date", nullable = false)
     private LocalDate startWorkDate;
+
+    // Bumped by every JPA update; also the ETag of the employee's representation (see V7 migration)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Lower-cased generated copies (see V4 migration) so case-insensitive matches can use an index
+    @Column(name = "first_name_lc", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (lower(first_name))")
+    private String firstNameLc;
+
+    @Column(name = "last_name_lc", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (lower(last_name))")
+    private String lastNameLc;
+
+    @Column(name = "email_lc", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (lower(email))")
+    private String emailLc;
+
+    @Column(name = "position_lc", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (lower(position))")
+    private String positionLc;
 }
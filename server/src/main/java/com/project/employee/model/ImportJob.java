@@ -0,0 +1,64 @@
+package com.project.employee.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A CSV employee import. The counters form the checkpoint: they are updated in the same
+ * transaction as the rows of each chunk, so a resumed job skips exactly
+ * {@code rowsProcessed} records and never inserts a row twice.
+ */
+@Entity
+@Table(
+        name = "import_job",
+        indexes = {
+                @Index(name = "idx_import_job_status", columnList = "status")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String fileName;
+
+    @Column(length = 1024)
+    private String storagePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private ImportJobStatus status;
+
+    private long totalBytes;
+    private long bytesProcessed;
+    private long rowsProcessed;
+    private long rowsCreated;
+    private long rowsFailed;
+
+    /** Time spent importing chunks, summed over all runs of the job. */
+    private long processingMillis;
+
+    @Column(length = 1024)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
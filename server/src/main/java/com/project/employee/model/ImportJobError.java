@@ -0,0 +1,34 @@
+package com.project.employee.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/** A CSV record rejected by an import job, identified by the file line it starts on. */
+@Entity
+@Table(
+        name = "import_job_error",
+        indexes = {
+                @Index(name = "idx_import_job_error_job", columnList = "job_id, line_number")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "line_number")
+    private long lineNumber;
+
+    private String rowKey;
+
+    @Column(length = 1024)
+    private String message;
+}
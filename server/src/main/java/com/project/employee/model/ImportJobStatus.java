@@ -0,0 +1,8 @@
+package com.project.employee.model;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
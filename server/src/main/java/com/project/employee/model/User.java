@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
         name = "users",
         indexes = {
                 @Index(name = "idx_username", columnList = "username"),
-                @Index(name = "idx_refresh_token", columnList = "refreshToken")
+                @Index(name = "idx_refresh_token_hash", columnList = "refresh_token_hash")
         }
 )
 @Data
@@ -27,12 +27,22 @@ public class User {
     private String password;
     private String role;
 
-    @Column(length = 512)
-    private String refreshToken;
+    // SHA-256 of the current refresh token and its expiry (epoch seconds). Written only by
+    // RefreshSessionStore's batched flush, so entity saves cannot overwrite a newer session
+    @Column(name = "refresh_token_hash", columnDefinition = "binary(32)", insertable = false, updatable = false)
+    private byte[] refreshTokenHash;
+
+    @Column(name = "refresh_token_expires_at", insertable = false, updatable = false)
+    private Long refreshTokenExpiresAt;
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Bumped by every JPA update, not by the refresh session flush (see V7 migration)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,20 @@
+package com.project.employee.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Reads rows matching a specification straight into DTOs: only the DTO's columns are
+ * selected, and no entity is loaded into or snapshotted by the persistence context.
+ */
+public interface DtoProjectionExecutor<T, D> {
+
+    /**
+     * @param sort   may reference any entity attribute
+     * @param offset rows to skip
+     * @param limit  maximum rows to return, or a negative value for all of them
+     */
+    List<D> findDtos(Specification<T> spec, Sort sort, long offset, int limit);
+}
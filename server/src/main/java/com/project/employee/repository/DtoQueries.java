@@ -0,0 +1,49 @@
+package com.project.employee.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/** Shared implementation of {@link DtoProjectionExecutor} for the custom repository fragments. */
+final class DtoQueries {
+
+    private DtoQueries() {
+    }
+
+    /** Selects {@code attributes} of the matching rows into {@code dtoType}'s constructor, in that order. */
+    static <T, D> List<D> select(EntityManager entityManager, Class<T> entityType, Class<D> dtoType,
+                                 List<String> attributes, Specification<T> spec, Sort sort,
+                                 long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<D> query = cb.createQuery(dtoType);
+        Root<T> root = query.from(entityType);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(dtoType, attributes.stream()
+                .map(root::get)
+                .toArray(Selection[]::new)));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        TypedQuery<D> typed = entityManager.createQuery(query);
+        if (offset > 0) {
+            typed.setFirstResult(Math.toIntExact(offset));
+        }
+        if (limit >= 0) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+}
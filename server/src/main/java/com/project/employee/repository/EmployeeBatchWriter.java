@@ -0,0 +1,77 @@
+package com.project.employee.repository;
+
+import com.project.employee.model.Employee;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserts employees with plain JDBC batches. Hibernate cannot batch inserts of
+ * IDENTITY entities, so bulk paths go through here; with rewriteBatchedStatements=true
+ * on the MySQL URL each batch is sent as one multi-row INSERT. Runs in the caller's
+ * transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO employee "
+            + "(first_name, last_name, email, phone, position, salary, start_work_date, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${employee.batch-size:500}")
+    private int batchSize;
+
+    /** Inserts {@code employees} and sets their generated ids and initial version. */
+    public void insertAll(List<Employee> employees) {
+        for (int from = 0; from < employees.size(); from += batchSize) {
+            insertBatch(employees.subList(from, Math.min(from + batchSize, employees.size())));
+        }
+    }
+
+    private void insertBatch(List<Employee> batch) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Employee employee : batch) {
+                    ps.setString(1, employee.getFirstName());
+                    ps.setString(2, employee.getLastName());
+                    ps.setString(3, employee.getEmail());
+                    ps.setString(4, employee.getPhone());
+                    ps.setString(5, employee.getPosition());
+                    if (employee.getSalary() == null) {
+                        ps.setNull(6, Types.DOUBLE);
+                    } else {
+                        ps.setDouble(6, employee.getSalary());
+                    }
+                    ps.setDate(7, employee.getStartWorkDate() == null ? null : Date.valueOf(employee.getStartWorkDate()));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                int i = 0;
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next() && i < batch.size()) {
+                        Employee employee = batch.get(i++);
+                        employee.setId(keys.getLong(1));
+                        employee.setVersion(0L);
+                    }
+                }
+                if (i != batch.size()) {
+                    throw new IllegalStateException("Expected " + batch.size() + " generated ids, got " + i);
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -1,11 +1,55 @@
 package com.project.employee.repository;
 
 import com.project.employee.model.Employee;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeRepositoryCustom {
     boolean existsByEmail(String email);
+
+    /** Expects lower-cased emails; matched against the indexed generated {@code email_lc} column. */
+    @Query("select e.emailLc from Employee e where e.emailLc in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select max(e.id) from Employee e")
+    Optional<Long> findMaxId();
+
+    @Query("select e.version from Employee e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    interface PayrollRow {
+        Long getId();
+        String getPosition();
+        Double getSalary();
+        LocalDate getStartWorkDate();
+    }
+
+    /** The payroll columns of the employees after {@code afterId}, in id order. */
+    @Query("select e.id as id, e.position as position, e.salary as salary, e.startWorkDate as startWorkDate "
+            + "from Employee e where e.id > :afterId order by e.id")
+    List<PayrollRow> findPayrollRows(@Param("afterId") long afterId, Limit limit);
+
+    /** Ids among {@code ids} that exist, locked until the end of the transaction. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Employee e where e.id in :ids")
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
+    /** Set-based delete: one statement, no entities loaded into the persistence context. */
+    @Modifying
+    @Query("delete from Employee e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,34 @@
+package com.project.employee.repository;
+
+import com.project.employee.dto.EmployeeDto;
+import com.project.employee.dto.FacetCount;
+import com.project.employee.model.Employee;
+import com.project.employee.spec.Facet;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface EmployeeRepositoryCustom extends DtoProjectionExecutor<Employee, EmployeeDto> {
+    /**
+     * Forward-only stream of the employees matching {@code spec} in id order. Rows are
+     * fetched from the database in batches and detached once consumed, so memory stays flat
+     * regardless of the result size. Must be consumed inside a transaction and closed.
+     */
+    Stream<Employee> streamAll(Specification<Employee> spec);
+
+    /**
+     * Up to {@code limit} ids above {@code afterId} matching {@code spec}, in id order and
+     * locked for update, so a caller can delete by filter one bounded chunk at a time.
+     */
+    List<Long> lockIds(Specification<Employee> spec, long afterId, int limit);
+
+    /**
+     * Number of employees matching {@code spec} per value of each of {@code facets}. A single
+     * query groups the matching rows by all requested facets at once, and the count per facet
+     * is rolled up from its rows. Positions come most frequent first, bands and years in order.
+     */
+    Map<Facet, List<FacetCount>> countFacets(Specification<Employee> spec, Set<Facet> facets, double salaryBandWidth);
+}
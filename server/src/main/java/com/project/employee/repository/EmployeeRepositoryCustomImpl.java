@@ -0,0 +1,170 @@
+package com.project.employee.repository;
+
+import com.project.employee.dto.EmployeeDto;
+import com.project.employee.dto.FacetCount;
+import com.project.employee.model.Employee;
+import com.project.employee.spec.Facet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    /** In {@link EmployeeDto} constructor order. */
+    private static final List<String> DTO_ATTRIBUTES = List.of(
+            "id", "firstName", "lastName", "email", "phone", "position", "salary", "startWorkDate", "version");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Rows per round trip for drivers other than MySQL's, see exportFetchSize()
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public Stream<Employee> streamAll(Specification<Employee> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> root = query.from(Employee.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+
+    /**
+     * Connector/J reads whole result sets into memory unless the fetch size is
+     * {@code Integer.MIN_VALUE}, which streams the rows of this one statement. Unlike
+     * {@code useCursorFetch}, that leaves every other query on plain client-side
+     * prepared statements.
+     */
+    private int exportFetchSize() {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getJdbcServices().getDialect() instanceof MySQLDialect ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    @Override
+    public List<Long> lockIds(Specification<Employee> spec, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        Predicate after = cb.greaterThan(root.get("id"), afterId);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(root.get("id"))
+                .where(predicate == null ? after : cb.and(after, predicate))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Map<Facet, List<FacetCount>> countFacets(Specification<Employee> spec, Set<Facet> facets,
+                                                    double salaryBandWidth) {
+        List<Facet> requested = List.copyOf(EnumSet.copyOf(facets));
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Expression<?>> keys = requested.stream()
+                .<Expression<?>>map(facet -> facetKey(facet, root, cb, salaryBandWidth))
+                .toList();
+        List<Selection<?>> selections = new ArrayList<>(keys);
+        selections.add(cb.count(root));
+        query.multiselect(selections).groupBy(keys);
+
+        Map<Facet, Map<Object, Long>> counts = new EnumMap<>(Facet.class);
+        requested.forEach(facet -> counts.put(facet, new HashMap<>()));
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            long count = row.get(requested.size(), Long.class);
+            for (int i = 0; i < requested.size(); i++) {
+                Object value = row.get(i);
+                if (value instanceof Number number && requested.get(i) != Facet.POSITION) {
+                    value = number.longValue();
+                }
+                counts.get(requested.get(i)).merge(value, count, Long::sum);
+            }
+        }
+
+        Map<Facet, List<FacetCount>> result = new EnumMap<>(Facet.class);
+        counts.forEach((facet, values) -> result.put(facet, toFacetCounts(facet, values, salaryBandWidth)));
+        return result;
+    }
+
+    private static Expression<?> facetKey(Facet facet, Root<Employee> root, CriteriaBuilder cb, double salaryBandWidth) {
+        return switch (facet) {
+            case POSITION -> root.get("position");
+            case SALARY_BAND -> cb.floor(cb.quot(root.<Double>get("salary"), salaryBandWidth));
+            case START_YEAR -> cb.function("year", Integer.class, root.get("startWorkDate"));
+        };
+    }
+
+    private static List<FacetCount> toFacetCounts(Facet facet, Map<Object, Long> values, double salaryBandWidth) {
+        Comparator<Map.Entry<Object, Long>> order = facet == Facet.POSITION
+                ? Map.Entry.<Object, Long>comparingByValue().reversed()
+                        .thenComparing(entry -> String.valueOf(entry.getKey()))
+                : Comparator.comparing(entry -> (Long) entry.getKey(), Comparator.nullsLast(Comparator.naturalOrder()));
+        return values.entrySet().stream()
+                .sorted(order)
+                .map(entry -> new FacetCount(label(facet, entry.getKey(), salaryBandWidth), entry.getValue()))
+                .toList();
+    }
+
+    private static String label(Facet facet, Object value, double salaryBandWidth) {
+        if (value == null) {
+            return null;
+        }
+        if (facet == Facet.SALARY_BAND) {
+            long band = (Long) value;
+            return plain(band * salaryBandWidth) + "-" + plain((band + 1) * salaryBandWidth);
+        }
+        return value.toString();
+    }
+
+    private static String plain(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public List<EmployeeDto> findDtos(Specification<Employee> spec, Sort sort, long offset, int limit) {
+        return DtoQueries.select(entityManager, Employee.class, EmployeeDto.class, DTO_ATTRIBUTES,
+                spec, sort, offset, limit);
+    }
+}
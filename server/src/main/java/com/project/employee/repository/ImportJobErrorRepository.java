@@ -0,0 +1,12 @@
+package com.project.employee.repository;
+
+import com.project.employee.model.ImportJobError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportJobErrorRepository extends JpaRepository<ImportJobError, Long> {
+    Page<ImportJobError> findByJobIdOrderByLineNumber(Long jobId, Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.project.employee.repository;
+
+import com.project.employee.model.ImportJob;
+import com.project.employee.model.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+    List<ImportJob> findByStatusIn(Collection<ImportJobStatus> statuses);
+}
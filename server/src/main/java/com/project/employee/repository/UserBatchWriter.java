@@ -0,0 +1,82 @@
+package com.project.employee.repository;
+
+import com.project.employee.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Inserts users with plain JDBC batches, for the same reason as {@link EmployeeBatchWriter}:
+ * Hibernate cannot batch inserts of IDENTITY entities. Runs in the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO users "
+            + "(name, username, password, role, created_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${user.batch-size:500}")
+    private int batchSize;
+
+    // Bind timestamps like Hibernate does, so created_at agrees with rows saved through JPA
+    @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}")
+    private String jdbcTimeZone;
+
+    /** Inserts {@code users} and sets their generated ids, creation time and initial version. */
+    public void insertAll(List<User> users) {
+        LocalDateTime now = LocalDateTime.now();
+        users.forEach(user -> user.setCreatedAt(now));
+        for (int from = 0; from < users.size(); from += batchSize) {
+            insertBatch(users.subList(from, Math.min(from + batchSize, users.size())));
+        }
+    }
+
+    private void insertBatch(List<User> batch) {
+        Calendar calendar = jdbcTimeZone.isEmpty() ? null : Calendar.getInstance(TimeZone.getTimeZone(jdbcTimeZone));
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (User user : batch) {
+                    ps.setString(1, user.getName());
+                    ps.setString(2, user.getUsername());
+                    ps.setString(3, user.getPassword());
+                    ps.setString(4, user.getRole());
+                    if (calendar == null) {
+                        ps.setTimestamp(5, Timestamp.valueOf(user.getCreatedAt()));
+                    } else {
+                        ps.setTimestamp(5, Timestamp.valueOf(user.getCreatedAt()), calendar);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                int i = 0;
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next() && i < batch.size()) {
+                        User user = batch.get(i++);
+                        user.setId(keys.getLong(1));
+                        user.setVersion(0L);
+                    }
+                }
+                if (i != batch.size()) {
+                    throw new IllegalStateException("Expected " + batch.size() + " generated ids, got " + i);
+                }
+            }
+            return null;
+        });
+    }
+}
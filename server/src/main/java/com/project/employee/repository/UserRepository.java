@@ -1,15 +1,49 @@
 package com.project.employee.repository;
 
 import com.project.employee.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>,
+        UserRepositoryCustom {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
-    Optional<User> findByRefreshToken(String refreshToken);
+
+    @Query("select u.username from User u")
+    List<String> findAllUsernames();
+
+    /** Set-based existence check: the names among {@code usernames} that are taken, in one query. */
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    interface RefreshSessionRow {
+        Long getId();
+        String getUsername();
+        String getRole();
+        byte[] getRefreshTokenHash();
+        Long getRefreshTokenExpiresAt();
+    }
+
+    List<RefreshSessionRow> findByRefreshTokenHashIsNotNull();
+
+    /** Ids among {@code ids} that exist, locked until the end of the transaction. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
+    /** Set-based delete: one statement, no entities loaded into the persistence context. */
+    @Modifying
+    @Query("delete from User u where u.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,8 @@
+package com.project.employee.repository;
+
+import com.project.employee.dto.UserDto;
+import com.project.employee.model.User;
+
+/** Never selects {@code password} or the refresh token columns. */
+public interface UserRepositoryCustom extends DtoProjectionExecutor<User, UserDto> {
+}
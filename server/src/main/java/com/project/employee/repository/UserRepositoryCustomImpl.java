@@ -0,0 +1,24 @@
+package com.project.employee.repository;
+
+import com.project.employee.dto.UserDto;
+import com.project.employee.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    /** In {@link UserDto} constructor order. */
+    private static final List<String> DTO_ATTRIBUTES = List.of("id", "name", "username", "role", "createdAt", "version");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserDto> findDtos(Specification<User> spec, Sort sort, long offset, int limit) {
+        return DtoQueries.select(entityManager, User.class, UserDto.class, DTO_ATTRIBUTES, spec, sort, offset, limit);
+    }
+}
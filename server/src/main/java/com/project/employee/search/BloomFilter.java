@@ -0,0 +1,68 @@
+package com.project.employee.search;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings, safe for concurrent adds and lookups. A
+ * negative answer from {@link #mightContain} is definite, while a positive one has
+ * to be confirmed by the caller. Lookups allocate nothing.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bits;
+    private final int hashes;
+
+    /** @param bits rounded up to a multiple of 64 */
+    public BloomFilter(int bits, int hashes) {
+        this.words = new AtomicLongArray(Math.max(1, (bits + 63) / 64));
+        this.bits = words.length() * 64;
+        this.hashes = hashes;
+    }
+
+    /** Sized for {@code expected} entries at a false positive rate around 1%. */
+    public static BloomFilter forExpected(long expected) {
+        long bits = Math.max(1 << 16, expected * 10);
+        return new BloomFilter((int) Math.min(bits, Integer.MAX_VALUE - 63), 7);
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashes; i++) {
+            int bit = bit(hash, i);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashes; i++) {
+            int bit = bit(hash, i);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Bit position of the {@code i}-th hash, by double hashing the two halves of {@code hash}. */
+    private int bit(long hash, int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return Math.floorMod(combined, bits);
+    }
+
+    /** 64-bit FNV-1a over the characters of {@code value}. */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,246 @@
+package com.project.employee.search;
+
+import com.project.employee.model.Employee;
+import com.project.employee.repository.EmployeeRepository;
+import com.project.employee.spec.EmployeeFilter;
+import com.project.employee.spec.EmployeeSpecification;
+import com.project.employee.spec.KeysetCursor;
+import com.project.employee.spec.MatchMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+/**
+ * Trigram indexes over the employee text columns matched with {@code LIKE '%term%'}.
+ * Used to turn substring criteria into a short list of candidate ids before the
+ * database applies the exact LIKE and range predicates.
+ *
+ * <p>The index only ever has to be a superset of the real matches, so writes are
+ * applied as additions after commit and stale entries left by updates and deletes
+ * are dropped by periodically rebuilding from the table.
+ *
+ * <p>The index is split into shards of {@code 2^20} consecutive ids. A rebuild replaces
+ * one shard at a time, so at most one shard is held twice while it runs.
+ */
+@Slf4j
+@Component
+public class EmployeeSearchIndex {
+
+    private static final int REBUILD_CHUNK = 5_000;
+    private static final int SHARD_BITS = 20;
+
+    private final EmployeeRepository employeeRepository;
+    private final Executor executor;
+    private final int maxCandidates;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // only ever grows; a shard is swapped by replacing the whole array
+    private volatile Fields[] shards = new Fields[0];
+    private volatile Fields building;
+    private volatile boolean ready;
+    private final AtomicLong liveEntries = new AtomicLong();
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository,
+                               @Qualifier("searchIndexExecutor") Executor executor,
+                               @Value("${search.trigram.max-candidates:10000}") int maxCandidates) {
+        this.employeeRepository = employeeRepository;
+        this.executor = executor;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(this::rebuild);
+    }
+
+    /** Adds the committed values of {@code employee}. */
+    public void index(Employee employee) {
+        int shard = shardOf(employee.getId());
+        ensureShards(shard + 1);
+        swapLock.readLock().lock();
+        try {
+            shards[shard].add(employee);
+            Fields next = building;
+            if (next != null && next.shard == shard) {
+                next.add(employee);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        liveEntries.incrementAndGet();
+    }
+
+    /** Records entries made stale by updates or deletes; rebuilds once they pile up. */
+    public void markStale(int count) {
+        long stale = staleEntries.addAndGet(count);
+        if (ready && stale > Math.max(liveEntries.get() / 5, 10_000)) {
+            executor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Ids that may match the substring criteria of {@code filter}, or {@code null}
+     * when the index cannot narrow it (not built yet, no usable term, or too many candidates).
+     */
+    public Collection<Long> candidateIds(EmployeeFilter filter) {
+        // Prefix and exact matches are served by the database indexes on the *_lc columns
+        if (!ready || filter.getMatchMode() != MatchMode.CONTAINS) {
+            return null;
+        }
+        Fields[] all = shards;
+        long[] result = narrow(null, all, fields -> fields.name, filter.getName());
+        result = narrow(result, all, fields -> fields.email, filter.getEmail());
+        result = narrow(result, all, fields -> fields.position, filter.getPosition());
+        result = narrow(result, all, fields -> fields.phone, filter.getPhone());
+        return result == null ? null : LongStream.of(result).boxed().toList();
+    }
+
+    /** Rebuilds the shards in id order, each from a fresh read of its id range. */
+    void rebuild() {
+        if (building != null) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        long count = 0;
+        try {
+            int lastShard = employeeRepository.findMaxId().map(EmployeeSearchIndex::shardOf).orElse(-1);
+            for (int shard = 0; shard <= Math.max(lastShard, shards.length - 1); shard++) {
+                count += rebuild(shard);
+            }
+        } catch (RuntimeException e) {
+            log.error("Employee search index rebuild failed", e);
+            building = null;
+            return;
+        }
+
+        liveEntries.set(count);
+        staleEntries.set(0);
+        ready = true;
+        log.info("Employee search index built: {} rows in {} ms", count, System.currentTimeMillis() - started);
+    }
+
+    private long rebuild(int shard) {
+        Fields next = new Fields(shard);
+        ensureShards(shard + 1);
+        swapLock.writeLock().lock();
+        try {
+            building = next;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        long count = 0;
+        long end = (long) (shard + 1) << SHARD_BITS;
+        KeysetCursor cursor = new KeysetCursor("id", ((long) shard << SHARD_BITS) - 1, null);
+        Sort byId = KeysetCursor.sortFor("id");
+        while (true) {
+            List<Employee> chunk = employeeRepository.findBy(
+                    EmployeeSpecification.after(cursor).and(EmployeeSpecification.idBelow(end)),
+                    query -> query.sortBy(byId).limit(REBUILD_CHUNK).all());
+            chunk.forEach(next::add);
+            count += chunk.size();
+            if (chunk.size() < REBUILD_CHUNK) {
+                break;
+            }
+            cursor = new KeysetCursor("id", chunk.get(chunk.size() - 1).getId(), null);
+        }
+        next.trim();
+
+        swapLock.writeLock().lock();
+        try {
+            Fields[] swapped = shards.clone();
+            swapped[shard] = next;
+            shards = swapped;
+            building = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return count;
+    }
+
+    private void ensureShards(int count) {
+        if (shards.length >= count) {
+            return;
+        }
+        swapLock.writeLock().lock();
+        try {
+            if (shards.length < count) {
+                Fields[] grown = Arrays.copyOf(shards, count);
+                for (int shard = shards.length; shard < count; shard++) {
+                    grown[shard] = new Fields(shard);
+                }
+                shards = grown;
+            }
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static int shardOf(long id) {
+        return (int) (id >>> SHARD_BITS);
+    }
+
+    private long[] narrow(long[] current, Fields[] all, Function<Fields, TrigramIndex> field, String term) {
+        // LIKE wildcards in the term cannot be answered from trigrams
+        if (term == null || term.trim().isEmpty() || term.contains("%") || term.contains("_") || term.contains("\\")) {
+            return current;
+        }
+        // shards cover ascending id ranges, so their results concatenate in order
+        long[] candidates = new long[0];
+        for (Fields shard : all) {
+            long[] found = field.apply(shard).candidates(term, maxCandidates - candidates.length);
+            if (found == null) {
+                return current;
+            }
+            if (found.length > 0) {
+                long[] joined = Arrays.copyOf(candidates, candidates.length + found.length);
+                System.arraycopy(found, 0, joined, candidates.length, found.length);
+                candidates = joined;
+            }
+        }
+        return current == null ? candidates : TrigramIndex.intersect(current, candidates);
+    }
+
+    private static final class Fields {
+        final int shard;
+        final TrigramIndex name = new TrigramIndex();
+        final TrigramIndex email = new TrigramIndex();
+        final TrigramIndex position = new TrigramIndex();
+        final TrigramIndex phone = new TrigramIndex();
+
+        Fields(int shard) {
+            this.shard = shard;
+        }
+
+        void add(Employee employee) {
+            long id = employee.getId();
+            name.add(id, employee.getFirstName());
+            name.add(id, employee.getLastName());
+            email.add(id, employee.getEmail());
+            position.add(id, employee.getPosition());
+            phone.add(id, employee.getPhone());
+        }
+
+        void trim() {
+            name.trim();
+            email.trim();
+            position.trim();
+            phone.trim();
+        }
+    }
+}
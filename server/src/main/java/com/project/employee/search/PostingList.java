@@ -0,0 +1,171 @@
+package com.project.employee.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, duplicate-free set of ids sharing one trigram, stored as variable-length
+ * deltas: dense ids take one byte each instead of eight. Every {@value #SKIP_INTERVAL}th
+ * id gets a skip entry, so a {@link Cursor} can jump close to any id without decoding
+ * the list from the start.
+ *
+ * <p>Ids normally arrive in ascending order (rebuilds read by id, new rows get higher
+ * ids) and are appended. Lower ids, from updated rows, go to a small sorted side list
+ * that is merged into the encoded one once it grows. Not thread-safe; guarded by
+ * {@link TrigramIndex}.
+ */
+final class PostingList {
+
+    static final int SKIP_INTERVAL = 64;
+
+    /** Returned by {@link Cursor#seek} past the last id. */
+    static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private byte[] data = new byte[4];
+    private int length;
+    private int encoded;
+    private long last = -1;
+
+    // skip k: the id before the (k * SKIP_INTERVAL)th one, and the offset of its delta
+    private long[] skipIds = new long[1];
+    private int[] skipOffsets = new int[1];
+    private int skipCount;
+
+    private long[] pending = new long[0];
+    private int pendingSize;
+
+    void add(long id) {
+        if (id > last) {
+            append(id);
+            return;
+        }
+        if (id == last || new Cursor().seek(id) == id) {
+            return;
+        }
+        int pos = Arrays.binarySearch(pending, 0, pendingSize, id);
+        int insertAt = -pos - 1;
+        if (pendingSize == pending.length) {
+            pending = Arrays.copyOf(pending, pending.length + (pending.length >> 1) + 4);
+        }
+        System.arraycopy(pending, insertAt, pending, insertAt + 1, pendingSize - insertAt);
+        pending[insertAt] = id;
+        pendingSize++;
+        if (pendingSize > Math.max(16, encoded >> 4)) {
+            merge();
+        }
+    }
+
+    int size() {
+        return encoded + pendingSize;
+    }
+
+    /** Releases the spare capacity left by appending. */
+    void trim() {
+        data = Arrays.copyOf(data, length);
+        skipIds = Arrays.copyOf(skipIds, skipCount);
+        skipOffsets = Arrays.copyOf(skipOffsets, skipCount);
+        pending = Arrays.copyOf(pending, pendingSize);
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void append(long id) {
+        if (encoded % SKIP_INTERVAL == 0) {
+            if (skipCount == skipIds.length) {
+                skipIds = Arrays.copyOf(skipIds, Math.max(4, skipCount * 2));
+                skipOffsets = Arrays.copyOf(skipOffsets, Math.max(4, skipCount * 2));
+            }
+            skipIds[skipCount] = last;
+            skipOffsets[skipCount] = length;
+            skipCount++;
+        }
+        long delta = id - last;
+        if (data.length - length < 10) {
+            data = Arrays.copyOf(data, Math.max(data.length + (data.length >> 1), length + 10));
+        }
+        while ((delta & ~0x7FL) != 0) {
+            data[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+        encoded++;
+        last = id;
+    }
+
+    /** Re-encodes the list with the side list merged in. */
+    private void merge() {
+        long[] ids = new long[size()];
+        Cursor cursor = new Cursor();
+        int count = 0;
+        for (long id = cursor.seek(0); id != EXHAUSTED; id = cursor.seek(id + 1)) {
+            ids[count++] = id;
+        }
+        data = new byte[Math.max(4, length + pendingSize * 2)];
+        length = 0;
+        encoded = 0;
+        last = -1;
+        skipCount = 0;
+        pendingSize = 0;
+        for (int i = 0; i < count; i++) {
+            append(ids[i]);
+        }
+    }
+
+    /** Forward-only position in the list. */
+    final class Cursor {
+
+        private int offset;
+        private int decoded;
+        // the last decoded id, i.e. the smallest encoded one not passed yet
+        private long head = -1;
+        private int pendingIndex;
+
+        /** The smallest id at or above {@code target} and the current position, or {@link #EXHAUSTED}. */
+        long seek(long target) {
+            if (head < target) {
+                seekEncoded(target);
+            }
+            while (pendingIndex < pendingSize && pending[pendingIndex] < target) {
+                pendingIndex++;
+            }
+            long fromPending = pendingIndex < pendingSize ? pending[pendingIndex] : EXHAUSTED;
+            return Math.min(head, fromPending);
+        }
+
+        private void seekEncoded(long target) {
+            // last block starting below target; jump there unless it is behind us
+            int low = 0;
+            int high = skipCount - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (skipIds[mid] < target) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (skipCount > 0 && low * SKIP_INTERVAL >= decoded) {
+                offset = skipOffsets[low];
+                decoded = low * SKIP_INTERVAL;
+                head = skipIds[low];
+            }
+            while (head < target) {
+                if (decoded == encoded) {
+                    head = EXHAUSTED;
+                    return;
+                }
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[offset++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                head += delta;
+                decoded++;
+            }
+        }
+    }
+}
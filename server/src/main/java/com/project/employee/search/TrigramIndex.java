@@ -0,0 +1,212 @@
+package com.project.employee.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted trigram index over one text column. Values and search terms are
+ * accent-stripped and lower-cased the same way, so a value containing the term
+ * always contains every trigram of the term: {@link #candidates(String, int)} never
+ * misses a match but may return ids whose value does not actually contain it.
+ *
+ * <p>Posting lists are found through an open-addressing table keyed by the packed
+ * trigram, so neither trigrams nor ids are ever boxed.
+ */
+public class TrigramIndex {
+
+    private long[] grams = new long[64];
+    private PostingList[] postings = new PostingList[64];
+    private int gramCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(long id, String value) {
+        if (value == null) {
+            return;
+        }
+        long[] grams = grams(fold(value));
+        if (grams.length == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (long gram : grams) {
+                int slot = slot(gram);
+                if (postings[slot] == null) {
+                    this.grams[slot] = gram;
+                    postings[slot] = new PostingList();
+                    if (++gramCount * 2 > postings.length) {
+                        resize();
+                        slot = slot(gram);
+                    }
+                }
+                postings[slot].add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Releases spare capacity; for an index that is complete and will mostly be read. */
+    public void trim() {
+        lock.writeLock().lock();
+        try {
+            for (PostingList list : postings) {
+                if (list != null) {
+                    list.trim();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sorted ids whose value may contain {@code term}, or {@code null} when the index
+     * cannot narrow the search: the term is shorter than a trigram, or more than
+     * {@code limit} ids match (the scan stops there instead of walking long lists).
+     */
+    public long[] candidates(String term, int limit) {
+        long[] grams = grams(fold(term));
+        if (grams.length == 0) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(grams.length);
+            for (long gram : grams) {
+                PostingList list = postings[slot(gram)];
+                if (list == null) {
+                    return new long[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            // leapfrog: every list skips ahead to the highest id any other one is at
+            PostingList.Cursor[] cursors = new PostingList.Cursor[lists.size()];
+            for (int i = 0; i < cursors.length; i++) {
+                cursors[i] = lists.get(i).cursor();
+            }
+            long[] result = new long[Math.min(lists.get(0).size(), limit)];
+            int count = 0;
+            long target = 0;
+            while (true) {
+                long id = cursors[0].seek(target);
+                if (id == PostingList.EXHAUSTED) {
+                    return Arrays.copyOf(result, count);
+                }
+                target = id + 1;
+                boolean everywhere = true;
+                for (int j = 1; j < cursors.length && everywhere; j++) {
+                    long found = cursors[j].seek(id);
+                    if (found != id) {
+                        target = found;
+                        everywhere = false;
+                    }
+                }
+                if (everywhere) {
+                    if (count == limit) {
+                        return null;
+                    }
+                    result[count++] = id;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Intersection of two sorted id arrays. */
+    public static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /** The slot holding {@code gram}, or the empty one where it belongs. */
+    private int slot(long gram) {
+        int mask = postings.length - 1;
+        int slot = (int) (gram * 0x9E3779B97F4A7C15L >>> 32) & mask;
+        while (postings[slot] != null && grams[slot] != gram) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldGrams = grams;
+        PostingList[] oldPostings = postings;
+        grams = new long[oldGrams.length * 2];
+        postings = new PostingList[oldPostings.length * 2];
+        for (int i = 0; i < oldPostings.length; i++) {
+            if (oldPostings[i] != null) {
+                int slot = slot(oldGrams[i]);
+                grams[slot] = oldGrams[i];
+                postings[slot] = oldPostings[i];
+            }
+        }
+    }
+
+    /**
+     * Lower case without accents. Letters that have no decomposition to strip, such as
+     * {@code đ} or {@code ø}, are spelled out the way accent-insensitive MySQL collations
+     * compare them; otherwise a Vietnamese {@code Đặng} could never match {@code dang}.
+     */
+    static String fold(String value) {
+        boolean ascii = true;
+        for (int i = 0; i < value.length() && ascii; i++) {
+            ascii = value.charAt(i) < 128;
+        }
+        if (!ascii) {
+            value = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+            StringBuilder folded = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case 'đ', 'Đ', 'ð', 'Ð' -> folded.append('d');
+                    case 'ø', 'Ø' -> folded.append('o');
+                    case 'ł', 'Ł' -> folded.append('l');
+                    case 'ħ', 'Ħ' -> folded.append('h');
+                    case 'ŧ', 'Ŧ' -> folded.append('t');
+                    case 'ı' -> folded.append('i');
+                    case 'æ', 'Æ' -> folded.append("ae");
+                    case 'œ', 'Œ' -> folded.append("oe");
+                    case 'ß', 'ẞ' -> folded.append("ss");
+                    case 'þ', 'Þ' -> folded.append("th");
+                    default -> folded.append(c);
+                }
+            }
+            value = folded.toString();
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /** Distinct trigrams of {@code value}, each packed as three 16-bit chars. */
+    static long[] grams(String value) {
+        if (value.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[value.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+}
@@ -0,0 +1,123 @@
+package com.project.employee.search;
+
+import com.project.employee.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bloom filter over the usernames in the {@code users} table. When it answers that a
+ * name is not taken, the name is free and no query is needed. When it answers "maybe",
+ * the caller asks the database. Names are folded to lower case, matching the
+ * case-insensitive unique index on MySQL.
+ *
+ * <p>Like {@link EmployeeSearchIndex}, the filter only ever has to be a superset.
+ * Committed names are added after commit. Names freed by deletes and renames stay in
+ * the filter until the next rebuild, which runs once enough of them have piled up or
+ * the filter has outgrown its size. The unique constraint stays the final guard
+ * against a name committed concurrently and not added yet.
+ */
+@Slf4j
+@Component
+public class UsernameFilter {
+
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile BloomFilter current = BloomFilter.forExpected(0);
+    private volatile BloomFilter building;
+    private volatile long capacity;
+    private final AtomicLong liveEntries = new AtomicLong();
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    public UsernameFilter(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    void load() {
+        rebuild();
+    }
+
+    /** {@code false} only when no user has this name. */
+    public boolean mightExist(String username) {
+        return username != null && current.mightContain(key(username));
+    }
+
+    /** Adds committed usernames. */
+    public void addAll(Collection<String> usernames) {
+        swapLock.readLock().lock();
+        try {
+            for (String username : usernames) {
+                if (username == null) {
+                    continue;
+                }
+                current.add(key(username));
+                BloomFilter next = building;
+                if (next != null) {
+                    next.add(key(username));
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        liveEntries.addAndGet(usernames.size());
+    }
+
+    public void add(String username) {
+        addAll(Collections.singletonList(username));
+    }
+
+    /** Records names freed by deletes or renames. */
+    public void markStale(int count) {
+        staleEntries.addAndGet(count);
+    }
+
+    @Scheduled(fixedDelayString = "${user.username-filter.check-interval:10m}")
+    public void rebuildIfNeeded() {
+        long live = liveEntries.get();
+        if (staleEntries.get() > live / 4 || live > capacity) {
+            rebuild();
+        }
+    }
+
+    /** Refills a fresh filter from the table; names committed meanwhile go into both filters. */
+    public synchronized void rebuild() {
+        // room to double before the next resize
+        long expected = Math.max(userRepository.count() * 2, 6_000);
+        BloomFilter next = BloomFilter.forExpected(expected);
+        building = next;
+        List<String> usernames = userRepository.findAllUsernames();
+        // the column is nullable; such rows can never collide with a name
+        usernames.forEach(username -> {
+            if (username != null) {
+                next.add(key(username));
+            }
+        });
+
+        swapLock.writeLock().lock();
+        try {
+            current = next;
+            building = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        capacity = expected;
+        liveEntries.set(usernames.size());
+        staleEntries.set(0);
+        log.debug("Username filter rebuilt with {} names", usernames.size());
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.employee.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employee.metrics.RequestStages;
+import com.project.employee.metrics.RequestStages.Stage;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,9 +20,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import com.project.employee.exception.ApiException;
-import com.project.employee.model.User;
-import com.project.employee.repository.UserRepository;
 
 @Slf4j
 @Component
@@ -28,14 +27,15 @@ import com.project.employee.repository.UserRepository;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final RefreshSessionStore refreshSessions;
+    private final TokenRevocationList revocations;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
         try {
-            log.info("Processing request to: {}", request.getRequestURI());
+            log.debug("Processing request to: {}", request.getRequestURI());
 
             // Try to get access token from cookie
             String accessToken = null;
@@ -62,13 +62,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // Try to validate access token
-            if (jwtUtil.validateJwtToken(accessToken)) {
-                log.debug("Access token is valid");
-                String username = jwtUtil.getUsernameFromJwt(accessToken);
-                String role = jwtUtil.getRoleFromJwt(accessToken);
-                log.info("User authenticated - Username: {}, Role: {}", username, role);
-                setAuthentication(request, accessToken);
+            // Try to validate access token; verified once, then served from the claims cache
+            String token = accessToken;
+            JwtClaims accessClaims = RequestStages.time(Stage.JWT, () -> {
+                JwtClaims claims = jwtUtil.verifyAccess(token);
+                return claims == null || revocations.isRevoked(claims) ? null : claims;
+            });
+            if (accessClaims != null) {
+                log.debug("User authenticated - Username: {}, Role: {}", accessClaims.username(), accessClaims.role());
+                setAuthentication(request, accessClaims);
                 chain.doFilter(request, response);
                 return;
             } else {
@@ -79,19 +81,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (refreshToken != null) {
                 try {
                     // Validate refresh token
-                    if (jwtUtil.validateJwtToken(refreshToken)) {
+                    JwtClaims refreshClaims = jwtUtil.verifyRefresh(refreshToken);
+                    if (refreshClaims != null) {
                         log.debug("Refresh token is valid");
                         // Find user by refresh token
-                        String username = jwtUtil.getUsernameFromJwt(refreshToken);
+                        String username = refreshClaims.username();
                         log.debug("Username from refresh token: {}", username);
 
-                        User user = userRepository.findByUsername(username)
-                                .orElseThrow(() -> new ApiException("User not found"));
+                        // In-memory session lookup, no database round trip
+                        RefreshSessionStore.Session session = refreshSessions.find(refreshToken);
 
-                        if (refreshToken.equals(user.getRefreshToken())) {
+                        if (session != null && username.equals(session.username())) {
                             log.debug("Refresh token matches stored token");
                             // Generate new access token
-                            String newAccessToken = jwtUtil.generateAccessToken(username, user.getRole());
+                            String newAccessToken = jwtUtil.generateAccessToken(username, session.role());
                             log.info("Generated new access token for user: {}", username);
 
                             // Set new access token in cookie
@@ -104,7 +107,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             log.debug("Set new access token cookie");
 
                             // Set authentication with new token
-                            setAuthentication(request, newAccessToken);
+                            setAuthentication(request, jwtUtil.verifyAccess(newAccessToken));
                             chain.doFilter(request, response);
                             return;
                         } else {
@@ -131,9 +134,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private void setAuthentication(HttpServletRequest request, String token) {
+    private void setAuthentication(HttpServletRequest request, JwtClaims claims) {
         try {
-            var authentication = jwtUtil.getAuthentication(token);
+            var authentication = claims == null ? null : jwtUtil.toAuthentication(claims);
             if (authentication != null) {
                 if (authentication instanceof UsernamePasswordAuthenticationToken) {
                     ((UsernamePasswordAuthenticationToken) authentication)
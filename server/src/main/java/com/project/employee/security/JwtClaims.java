@@ -0,0 +1,15 @@
+package com.project.employee.security;
+
+import java.time.Instant;
+
+/**
+ * The claims of a token whose signature and expiry have been checked. {@code tokenId} is
+ * the {@code jti} claim; only access tokens carry one. {@code type} is the {@code typ}
+ * claim, which keeps a refresh token from being accepted where an access token is expected.
+ */
+public record JwtClaims(String username, String role, Instant expiresAt, String tokenId, Type type) {
+
+    public enum Type {
+        ACCESS, REFRESH
+    }
+}
@@ -1,7 +1,13 @@
 package com.project.employee.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -10,87 +16,158 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * Issues and verifies JWTs. The signing key and parser are built once. A token is
+ * verified into {@link JwtClaims} with a single parse, and the result is cached under
+ * the token's digest until the token expires, so a client sending the same cookie
+ * again skips the signature check entirely. Only valid tokens are cached.
+ *
+ * <p>Both token kinds are signed with the same key, so each carries a {@code typ} claim;
+ * {@link #verifyAccess} and {@link #verifyRefresh} accept only their own kind.
+ */
+@Slf4j
 @Component
 public class JwtUtil {
 
-    private final String jwtSecret;
     private final long accessTokenExpirationMs = 15 * 60 * 1000; // 15 min
     private final long refreshTokenExpirationMs = 7 * 24 * 60 * 60 * 1000; // 7 days
 
-    public JwtUtil(@Value("${jwt.secret}") String jwtSecret) {
-        this.jwtSecret = jwtSecret;
-    }
+    private static final String TYPE_CLAIM = "typ";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, JwtClaims> verified;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public JwtUtil(@Value("${jwt.secret}") String jwtSecret,
+                   @Value("${jwt.verified-cache.max-size:100000}") long verifiedCacheSize,
+                   MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(Expiry.creating((String key, JwtClaims claims) -> Duration.between(Instant.now(), claims.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "verifiedTokens");
     }
 
     public String generateAccessToken(String username, String role) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .setSubject(username)
                 .claim("role", role)
+                .claim(TYPE_CLAIM, "access")
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    public Duration accessTokenTtl() {
+        return Duration.ofMillis(accessTokenExpirationMs);
+    }
+
     public String generateRefreshToken(String username, String role) {
         return Jwts.builder()
                 .setSubject(username)
                 .claim("role", role)
+                .claim(TYPE_CLAIM, "refresh")
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromJwt(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-    }
-
-    public boolean validateJwtToken(String token) {
+    /** Claims of {@code token}, or {@code null} when it is malformed, wrongly signed or expired. */
+    public JwtClaims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String key = TokenDigest.key(token);
+        JwtClaims cached = verified.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            JwtClaims result = new JwtClaims(claims.getSubject(), claims.get("role", String.class),
+                    expiration == null ? null : expiration.toInstant(), claims.getId(), typeOf(claims));
+            // tokens without an expiry are never issued here; verify them every time
+            if (expiration != null) {
+                verified.put(key, result);
+            }
+            return result;
         } catch (ExpiredJwtException e) {
-            System.out.println("JWT token is expired: " + e.getMessage());
-            return false;
-        } catch (JwtException e) {
-            System.out.println("Invalid JWT token: " + e.getMessage());
-            return false;
+            log.debug("JWT token is expired: {}", e.getMessage());
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return null;
         }
     }
 
-    public Authentication getAuthentication(String token) {
-        try {
-            String username = getUsernameFromJwt(token);
-            String role = getRoleFromJwt(token);
+    /** Claims of {@code token} if it is a valid access token, otherwise {@code null}. */
+    public JwtClaims verifyAccess(String token) {
+        return verifyAs(token, JwtClaims.Type.ACCESS);
+    }
 
-            List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
-            return new UsernamePasswordAuthenticationToken(username, null, authorities);
-        } catch (ExpiredJwtException e) {
-            return null;
+    /** Claims of {@code token} if it is a valid refresh token, otherwise {@code null}. */
+    public JwtClaims verifyRefresh(String token) {
+        return verifyAs(token, JwtClaims.Type.REFRESH);
+    }
+
+    private JwtClaims verifyAs(String token, JwtClaims.Type type) {
+        JwtClaims claims = verify(token);
+        return claims != null && claims.type() == type ? claims : null;
+    }
+
+    private static JwtClaims.Type typeOf(Claims claims) {
+        String type = claims.get(TYPE_CLAIM, String.class);
+        if (type == null) {
+            // issued before the claim existed: only access tokens had a jti
+            return claims.getId() != null ? JwtClaims.Type.ACCESS : JwtClaims.Type.REFRESH;
         }
+        return switch (type) {
+            case "access" -> JwtClaims.Type.ACCESS;
+            case "refresh" -> JwtClaims.Type.REFRESH;
+            default -> null;
+        };
+    }
+
+    public boolean validateJwtToken(String token) {
+        return verify(token) != null;
+    }
+
+    public String getUsernameFromJwt(String token) {
+        return requireValid(token).username();
     }
 
     public String getRoleFromJwt(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("role", String.class);
+        return requireValid(token).role();
+    }
+
+    public Authentication getAuthentication(String token) {
+        JwtClaims claims = verifyAccess(token);
+        return claims == null ? null : toAuthentication(claims);
+    }
+
+    public Authentication toAuthentication(JwtClaims claims) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(claims.role()));
+        return new UsernamePasswordAuthenticationToken(claims.username(), null, authorities);
+    }
+
+    private JwtClaims requireValid(String token) {
+        JwtClaims claims = verify(token);
+        if (claims == null) {
+            throw new JwtException("Invalid or expired JWT token");
+        }
+        return claims;
     }
-}
\ No newline at end of file
+}
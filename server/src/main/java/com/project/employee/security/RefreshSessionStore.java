@@ -0,0 +1,195 @@
+package com.project.employee.security;
+
+import com.project.employee.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The authoritative set of live refresh sessions, one per user, held in memory so that
+ * refresh and logout checks never touch the database.
+ *
+ * <p>Changes are written behind: each one marks the user dirty, and a scheduled flush
+ * writes the latest state of all dirty users to {@code users.refresh_token_hash} in JDBC
+ * batches, so a burst of logins turns into a few batched UPDATEs. The store is rebuilt
+ * from that column at startup. Only SHA-256 digests of tokens are kept, in memory and
+ * in the table. Sessions opened less than one flush interval before a
+ * crash are lost and those users have to log in again. The store assumes a single
+ * application instance.
+ */
+@Slf4j
+@Component
+public class RefreshSessionStore {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET refresh_token_hash = ?, refresh_token_expires_at = ? WHERE id = ?";
+
+    /** A live session; sessions are keyed by token digest. */
+    public record Session(Long userId, String username, String role, Instant expiresAt) {
+    }
+
+    /** Column values to write for a user; both null once the session has ended. */
+    private record PendingWrite(byte[] tokenHash, Instant expiresAt) {
+    }
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private final Map<String, Session> byToken = new ConcurrentHashMap<>();
+    private final Map<Long, String> tokenByUser = new ConcurrentHashMap<>();
+    private final Map<Long, PendingWrite> dirty = new ConcurrentHashMap<>();
+
+    public RefreshSessionStore(UserRepository userRepository,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${auth.refresh-sessions.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void load() {
+        int loaded = 0;
+        Instant now = Instant.now();
+        for (UserRepository.RefreshSessionRow row : userRepository.findByRefreshTokenHashIsNotNull()) {
+            Instant expiresAt = row.getRefreshTokenExpiresAt() == null
+                    ? null
+                    : Instant.ofEpochSecond(row.getRefreshTokenExpiresAt());
+            if (expiresAt != null && expiresAt.isAfter(now)) {
+                put(new Session(row.getId(), row.getUsername(), row.getRole(), expiresAt),
+                        TokenDigest.key(row.getRefreshTokenHash()));
+                loaded++;
+            }
+        }
+        log.info("Loaded {} refresh sessions", loaded);
+    }
+
+    /** Starts a session for the user, replacing any previous one. */
+    public void open(Long userId, String username, String role, String token, Instant expiresAt) {
+        byte[] hash = TokenDigest.sha256(token);
+        put(new Session(userId, username, role, expiresAt), TokenDigest.key(hash));
+        dirty.put(userId, new PendingWrite(hash, expiresAt));
+    }
+
+    /** The live session {@code token} belongs to, or {@code null}. */
+    public Session find(String token) {
+        if (token == null) {
+            return null;
+        }
+        String key = TokenDigest.key(token);
+        Session session = byToken.get(key);
+        if (session == null) {
+            return null;
+        }
+        if (session.expiresAt().isBefore(Instant.now())) {
+            byToken.remove(key, session);
+            return null;
+        }
+        return session;
+    }
+
+    /** Ends the session {@code token} belongs to. @return whether there was one */
+    public boolean close(String token) {
+        Session session = token == null ? null : byToken.get(TokenDigest.key(token));
+        if (session == null) {
+            return false;
+        }
+        closeUser(session.userId());
+        return true;
+    }
+
+    /** Ends the session of a user, e.g. after it was deleted. */
+    public void closeUser(Long userId) {
+        tokenByUser.computeIfPresent(userId, (id, key) -> {
+            byToken.remove(key);
+            return null;
+        });
+        dirty.put(userId, new PendingWrite(null, null));
+    }
+
+    public void closeUsers(Collection<Long> userIds) {
+        userIds.forEach(this::closeUser);
+    }
+
+    /** Keeps a live session in step with an edited user: a new role is taken over, a new username ends it. */
+    public void userChanged(Long userId, String username, String role) {
+        String key = tokenByUser.get(userId);
+        Session session = key == null ? null : byToken.get(key);
+        if (session == null) {
+            return;
+        }
+        if (!session.username().equals(username)) {
+            closeUser(userId);
+        } else if (!Objects.equals(session.role(), role)) {
+            byToken.replace(key, session, new Session(userId, username, role, session.expiresAt()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-sessions.flush-interval:1s}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, PendingWrite>> writes = new ArrayList<>(dirty.entrySet());
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, writes, batchSize, (ps, write) -> {
+                PendingWrite pending = write.getValue();
+                ps.setBytes(1, pending.tokenHash());
+                if (pending.expiresAt() == null) {
+                    ps.setNull(2, Types.BIGINT);
+                } else {
+                    ps.setLong(2, pending.expiresAt().getEpochSecond());
+                }
+                ps.setLong(3, write.getKey());
+            });
+        } catch (RuntimeException e) {
+            // left dirty, retried on the next tick
+            log.warn("Flushing {} refresh sessions failed: {}", writes.size(), e.getMessage());
+            return;
+        }
+        // only drop entries that were not overwritten while flushing
+        writes.forEach(write -> dirty.remove(write.getKey(), write.getValue()));
+    }
+
+    /** Drops expired sessions; their column value is left for the next login to overwrite. */
+    @Scheduled(fixedDelayString = "${auth.refresh-sessions.purge-interval:10m}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        tokenByUser.forEach((userId, key) -> {
+            Session session = byToken.get(key);
+            if (session == null || session.expiresAt().isBefore(now)) {
+                tokenByUser.remove(userId, key);
+                byToken.remove(key);
+            }
+        });
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void put(Session session, String key) {
+        tokenByUser.compute(session.userId(), (id, previous) -> {
+            if (previous != null && !previous.equals(key)) {
+                byToken.remove(previous);
+            }
+            byToken.put(key, session);
+            return key;
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.employee.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/** SHA-256 digests of tokens, so caches and lookups never need to hold the token itself. */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** The digest as a compact string, for use as a map key. */
+    public static String key(String token) {
+        return key(sha256(token));
+    }
+
+    public static String key(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.employee.security;
+
+import com.project.employee.search.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Access tokens revoked before their expiry, e.g. on logout, keyed by their {@code jti}.
+ *
+ * <p>Revocations are grouped into buckets by the token's expiry time, {@code bucket-width}
+ * wide. The buckets form a ring that covers one access token lifetime, so a bucket is
+ * dropped as a whole once its tokens have expired. Each bucket has a Bloom filter, and
+ * the exact set of ids behind it is consulted only when the filter answers "maybe".
+ * {@link #isRevoked} therefore costs a few array reads for almost every request and
+ * allocates nothing. Revocations are kept in memory only: they do not survive a
+ * restart and are not shared between instances.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final int HASHES = 3;
+
+    private static final class Bucket {
+        final long slot;
+        final BloomFilter filter;
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        Bucket(long slot, int bits) {
+            this.slot = slot;
+            this.filter = new BloomFilter(bits, HASHES);
+        }
+    }
+
+    private final long widthSeconds;
+    private final int bitsPerBucket;
+    private final Clock clock;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    @Autowired
+    public TokenRevocationList(JwtUtil jwtUtil,
+                               @Value("${auth.revocation.bucket-width:1m}") Duration bucketWidth,
+                               @Value("${auth.revocation.bits-per-bucket:65536}") int bitsPerBucket) {
+        this(jwtUtil.accessTokenTtl(), bucketWidth, bitsPerBucket, Clock.systemUTC());
+    }
+
+    TokenRevocationList(Duration tokenTtl, Duration bucketWidth, int bitsPerBucket, Clock clock) {
+        this.widthSeconds = Math.max(1, bucketWidth.toSeconds());
+        this.bitsPerBucket = bitsPerBucket;
+        this.clock = clock;
+        // one bucket per width of the lifetime, plus the partial buckets at both ends
+        this.ring = new AtomicReferenceArray<>((int) ((tokenTtl.toSeconds() + widthSeconds - 1) / widthSeconds) + 2);
+    }
+
+    /** Revokes the token with id {@code tokenId} that expires at {@code expiresAtSecond} (epoch seconds). */
+    public void revoke(String tokenId, long expiresAtSecond) {
+        if (tokenId == null) {
+            return;
+        }
+        long now = clock.instant().getEpochSecond();
+        if (expiresAtSecond <= now) {
+            return;
+        }
+        long slot = expiresAtSecond / widthSeconds;
+        if (slot - now / widthSeconds >= ring.length()) {
+            log.warn("Token {} outlives the revocation window and cannot be revoked", tokenId);
+            return;
+        }
+        Bucket bucket = bucketFor(slot);
+        bucket.ids.add(tokenId);
+        bucket.filter.add(tokenId);
+    }
+
+    public void revoke(JwtClaims claims) {
+        if (claims != null && claims.expiresAt() != null) {
+            revoke(claims.tokenId(), claims.expiresAt().getEpochSecond());
+        }
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        return claims.tokenId() != null && claims.expiresAt() != null
+                && isRevoked(claims.tokenId(), claims.expiresAt().getEpochSecond());
+    }
+
+    public boolean isRevoked(String tokenId, long expiresAtSecond) {
+        long slot = expiresAtSecond / widthSeconds;
+        Bucket bucket = ring.get(index(slot));
+        if (bucket == null || bucket.slot != slot) {
+            return false;
+        }
+        return bucket.filter.mightContain(tokenId) && bucket.ids.contains(tokenId);
+    }
+
+    /** Releases buckets whose tokens have all expired. */
+    @Scheduled(fixedDelayString = "${auth.revocation.bucket-width:1m}")
+    public void dropExpired() {
+        long current = clock.instant().getEpochSecond() / widthSeconds;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null && bucket.slot < current) {
+                ring.compareAndSet(i, bucket, null);
+            }
+        }
+    }
+
+    private Bucket bucketFor(long slot) {
+        int index = index(slot);
+        while (true) {
+            Bucket bucket = ring.get(index);
+            if (bucket != null && bucket.slot == slot) {
+                return bucket;
+            }
+            // empty, or left over from an earlier lap of the ring whose tokens have expired
+            Bucket fresh = new Bucket(slot, bitsPerBucket);
+            if (ring.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int index(long slot) {
+        return (int) Math.floorMod(slot, (long) ring.length());
+    }
+}
@@ -1,13 +1,19 @@
 package com.project.employee.service;
 
+import com.project.employee.cache.QueryResultCache;
 import com.project.employee.exception.ApiException;
 import com.project.employee.model.User;
 import com.project.employee.repository.UserRepository;
+import com.project.employee.search.UsernameFilter;
+import com.project.employee.security.JwtClaims;
 import com.project.employee.security.JwtUtil;
+import com.project.employee.security.RefreshSessionStore;
+import com.project.employee.security.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +24,10 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final QueryResultCache resultCache;
+    private final RefreshSessionStore refreshSessions;
+    private final TokenRevocationList revocations;
+    private final UsernameFilter usernameFilter;
 
     public Map<String, String> login(String username, String password) {
         User user = userRepository.findByUsername(username)
@@ -29,8 +39,8 @@ public class AuthService {
         String accessToken = jwtUtil.generateAccessToken(username, user.getRole());
         String refreshToken = jwtUtil.generateRefreshToken(username, user.getRole());
 
-        user.setRefreshToken(refreshToken);
-        userRepository.save(user);
+        // Persisted by the session store's batched write-behind, not here
+        refreshSessions.open(user.getId(), username, user.getRole(), refreshToken, expiryOf(refreshToken));
 
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", accessToken);
@@ -39,7 +49,13 @@ public class AuthService {
     }
 
     public String register(String username, String password) {
-        if (userRepository.findByUsername(username).isPresent()) {
+        if (username == null || username.isBlank()) {
+            throw new ApiException("Username is required");
+        }
+        if (password == null || password.isEmpty()) {
+            throw new ApiException("Password is required");
+        }
+        if (usernameFilter.mightExist(username) && userRepository.existsByUsername(username)) {
             throw new ApiException("Username already exists");
         }
         User user = User.builder()
@@ -48,22 +64,23 @@ public class AuthService {
                 .role("USER") // or "ADMIN" if you want to register admins
                 .build();
         userRepository.save(user);
+        usernameFilter.add(username);
+        resultCache.bump(QueryResultCache.USERS);
         return "User registered successfully";
     }
 
     public Map<String, String> refresh(String refreshToken) {
-        User user = userRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new ApiException("Invalid refresh token"));
-
-        if (jwtUtil.validateJwtToken(refreshToken)) {
+        RefreshSessionStore.Session session = jwtUtil.verifyRefresh(refreshToken) == null
+                ? null
+                : refreshSessions.find(refreshToken);
+        if (session == null) {
             throw new ApiException("Invalid refresh token");
         }
 
-        String accessToken = jwtUtil.generateAccessToken(user.getUsername(), user.getRole());
-        String newRefreshToken = jwtUtil.generateRefreshToken(user.getUsername(), user.getRole());
-
-        user.setRefreshToken(newRefreshToken);
-        userRepository.save(user);
+        String accessToken = jwtUtil.generateAccessToken(session.username(), session.role());
+        String newRefreshToken = jwtUtil.generateRefreshToken(session.username(), session.role());
+        refreshSessions.open(session.userId(), session.username(), session.role(), newRefreshToken,
+                expiryOf(newRefreshToken));
 
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", accessToken);
@@ -71,11 +88,20 @@ public class AuthService {
         return tokens;
     }
 
-    public void logout(String token) {
-        User user = userRepository.findByRefreshToken(token)
-                .orElseThrow(() -> new ApiException("Invalid refresh token"));
+    /**
+     * Ends the refresh session and revokes the access token, so neither outlives the logout.
+     * A refresh token cannot stand in for the revoked access token: it carries no jti and
+     * only access-typed tokens authenticate a request.
+     */
+    public void logout(String refreshToken, String accessToken) {
+        revocations.revoke(jwtUtil.verifyAccess(accessToken));
+        if (refreshToken != null && !refreshSessions.close(refreshToken)) {
+            throw new ApiException("Invalid refresh token");
+        }
+    }
 
-        user.setRefreshToken(null);
-        userRepository.save(user);
+    private Instant expiryOf(String freshToken) {
+        JwtClaims claims = jwtUtil.verify(freshToken);
+        return claims.expiresAt();
     }
 }
\ No newline at end of file
@@ -1,21 +1,44 @@
 package com.project.employee.service;
 
+import com.project.employee.dto.BulkCreateResult;
 import com.project.employee.dto.CreateEmployeeRequest;
 import com.project.employee.dto.EmployeeDto;
+import com.project.employee.dto.FacetCount;
+import com.project.employee.dto.KeysetPage;
+import com.project.employee.dto.PayrollSummary;
+import com.project.employee.dto.SalaryDistribution;
 import com.project.employee.dto.UpdateEmployeeRequest;
+import com.project.employee.export.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import com.project.employee.spec.CountMode;
 import com.project.employee.spec.EmployeeFilter;
+import com.project.employee.spec.Facet;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface EmployeeService {
     EmployeeDto createEmployee(CreateEmployeeRequest request);
-    List<EmployeeDto> createEmployees(List<CreateEmployeeRequest> requests);
-    EmployeeDto updateEmployee(Long id, UpdateEmployeeRequest request);
+    BulkCreateResult<EmployeeDto> createEmployees(List<CreateEmployeeRequest> requests);
+    /** @param acceptedVersions versions the caller's If-Match allows, or null for any */
+    EmployeeDto updateEmployee(Long id, UpdateEmployeeRequest request, Collection<Long> acceptedVersions);
     void deleteEmployee(Long id);
-    void deleteEmployees(List<Long> ids);
+    List<Long> deleteEmployees(List<Long> ids);
+    long deleteEmployees(EmployeeFilter filter);
     Page<EmployeeDto> getAllEmployees(Pageable pageable);
     EmployeeDto getEmployeeById(Long id);
+    long getEmployeeVersion(Long id);
     Page<EmployeeDto> filterEmployees(EmployeeFilter filter, Pageable pageable);
+    Slice<EmployeeDto> filterEmployees(EmployeeFilter filter, Pageable pageable, CountMode countMode);
+    KeysetPage<EmployeeDto> scrollEmployees(EmployeeFilter filter, String sort, String after, int size);
+    Map<Facet, List<FacetCount>> countFacets(EmployeeFilter filter, Set<Facet> facets, double salaryBandWidth);
+    void exportEmployees(EmployeeFilter filter, ExportFormat format, OutputStream out) throws IOException;
+    PayrollSummary getPayrollSummary();
+    SalaryDistribution getSalaryDistribution(EmployeeFilter filter, double bucketWidth);
 }
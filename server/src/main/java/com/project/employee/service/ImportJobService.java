@@ -0,0 +1,15 @@
+package com.project.employee.service;
+
+import com.project.employee.dto.ImportJobDto;
+import com.project.employee.dto.ImportJobErrorDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImportJobService {
+    ImportJobDto submit(MultipartFile file);
+    ImportJobDto resume(Long id);
+    ImportJobDto getJob(Long id);
+    Page<ImportJobDto> getJobs(Pageable pageable);
+    Page<ImportJobErrorDto> getErrors(Long id, Pageable pageable);
+}
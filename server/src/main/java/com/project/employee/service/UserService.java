@@ -1,19 +1,25 @@
 package com.project.employee.service;
 
 import com.project.employee.dto.*;
+import com.project.employee.spec.CountMode;
 import com.project.employee.spec.UserFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import jakarta.validation.Valid;
+import java.util.Collection;
 import java.util.List;
 
 public interface UserService {
     UserDto createUser(CreateUserRequest request);
-    List<UserDto> createUsers(List<CreateUserRequest> requests);
-    UserDto updateUser(Long id, UpdateUserRequest request);
+    BulkCreateResult<UserDto> createUsers(List<CreateUserRequest> requests);
+    /** @param acceptedVersions versions the caller's If-Match allows, or null for any */
+    UserDto updateUser(Long id, UpdateUserRequest request, Collection<Long> acceptedVersions);
     List<UserDto> updateUsers(@Valid List<BulkUpdateUserRequest> users);
     void deleteUser(Long id);
-    void deleteUsers(List<Long> ids);
+    List<Long> deleteUsers(List<Long> ids);
     Page<UserDto> getAllUsers(Pageable pageable);
     Page<UserDto> filterUsers(UserFilter filter, Pageable pageable);
+    Slice<UserDto> filterUsers(UserFilter filter, Pageable pageable, CountMode countMode);
+    KeysetPage<UserDto> scrollUsers(UserFilter filter, String sort, String after, int size);
 }
@@ -1,30 +1,74 @@
 package com.project.employee.service.impl;
 
+import com.project.employee.analytics.PayrollAggregates;
+import com.project.employee.cache.EmployeeDtoCache;
+import com.project.employee.cache.QueryResultCache;
+import com.project.employee.dto.BulkCreateResult;
+import com.project.employee.dto.BulkRowError;
 import com.project.employee.dto.CreateEmployeeRequest;
 import com.project.employee.dto.EmployeeDto;
+import com.project.employee.dto.FacetCount;
+import com.project.employee.dto.KeysetPage;
+import com.project.employee.dto.PayrollSummary;
+import com.project.employee.dto.SalaryDistribution;
 import com.project.employee.dto.UpdateEmployeeRequest;
 import com.project.employee.exception.ApiException;
+import com.project.employee.exception.PreconditionFailedException;
+import com.project.employee.export.EmployeeExportWriter;
+import com.project.employee.export.ExportFormat;
 import com.project.employee.mapper.EmployeeMapper;
+import com.project.employee.metrics.RequestStages;
+import com.project.employee.metrics.RequestStages.Stage;
 import com.project.employee.model.Employee;
+import com.project.employee.repository.EmployeeBatchWriter;
 import com.project.employee.repository.EmployeeRepository;
+import com.project.employee.search.EmployeeSearchIndex;
 import com.project.employee.service.EmployeeService;
+import com.project.employee.spec.CountMode;
 import com.project.employee.spec.EmployeeFilter;
+import com.project.employee.spec.Facet;
 import com.project.employee.spec.EmployeeSpecification;
+import com.project.employee.spec.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.jpa.domain.Specification;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final int EMAIL_LOOKUP_CHUNK = 1000;
+    private static final int DELETE_CHUNK = 1000;
+
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final PageQueryRunner pageQueryRunner;
+    private final EmployeeSearchIndex searchIndex;
+    private final PayrollAggregates payroll;
+    private final EmployeeDtoCache employeeCache;
+    private final QueryResultCache resultCache;
+    private final EmployeeExportWriter exportWriter;
+    private final EmployeeBatchWriter batchWriter;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public EmployeeDto createEmployee(CreateEmployeeRequest request) {
@@ -32,48 +76,56 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new ApiException("Email already exists");
         }
 
-        Employee employee = Employee.builder()
-                .firstName(request.getFirstName())
-                .lastName(request.getLastName())
-                .email(request.getEmail())
-                .phone(request.getPhone())
-                .position(request.getPosition())
-                .salary(request.getSalary())
-                .startWorkDate(request.getStartWorkDate())
-                .build();
-
-        return employeeMapper.toDto(employeeRepository.save(employee));
+        Employee saved = employeeRepository.save(toEntity(request));
+        TransactionHooks.afterCommit(() -> {
+            searchIndex.index(saved);
+            payroll.put(saved);
+            resultCache.bump(QueryResultCache.EMPLOYEE);
+        });
+        return employeeMapper.toDto(saved);
     }
 
     @Override
-    public List<EmployeeDto> createEmployees(List<CreateEmployeeRequest> requests) {
-        List<Employee> employees = requests.stream()
-                .map(request -> {
-                    if (employeeRepository.existsByEmail(request.getEmail())) {
-                        throw new ApiException("Email already exists: " + request.getEmail());
-                    }
+    public BulkCreateResult<EmployeeDto> createEmployees(List<CreateEmployeeRequest> requests) {
+        // Emails are compared lower-cased, like the case-insensitive unique index on MySQL
+        Set<String> existing = findExistingEmails(requests);
+        Set<String> seen = new HashSet<>();
+        List<Employee> employees = new ArrayList<>();
+        List<BulkRowError> errors = new ArrayList<>();
 
-                    return Employee.builder()
-                            .firstName(request.getFirstName())
-                            .lastName(request.getLastName())
-                            .email(request.getEmail())
-                            .phone(request.getPhone())
-                            .position(request.getPosition())
-                            .salary(request.getSalary())
-                            .startWorkDate(request.getStartWorkDate())
-                            .build();
-                })
-                .toList();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateEmployeeRequest request = requests.get(i);
+            if (request.getEmail() == null) {
+                errors.add(new BulkRowError(i, null, "Email is required"));
+                continue;
+            }
+            String key = request.getEmail().toLowerCase();
+            if (existing.contains(key)) {
+                errors.add(new BulkRowError(i, request.getEmail(), "Email already exists"));
+            } else if (!seen.add(key)) {
+                errors.add(new BulkRowError(i, request.getEmail(), "Duplicate email in request"));
+            } else {
+                employees.add(toEntity(request));
+            }
+        }
 
-        return employeeRepository.saveAll(employees).stream()
-                .map(employeeMapper::toDto)
-                .toList();
+        batchWriter.insertAll(employees);
+        TransactionHooks.afterCommit(() -> {
+            employees.forEach(searchIndex::index);
+            payroll.putAll(employees);
+            employeeCache.invalidateAll(employees.stream().map(Employee::getId).toList());
+            resultCache.bump(QueryResultCache.EMPLOYEE);
+        });
+        return new BulkCreateResult<>(employees.stream().map(employeeMapper::toDto).toList(), errors);
     }
 
     @Override
-    public EmployeeDto updateEmployee(Long id, UpdateEmployeeRequest request) {
+    public EmployeeDto updateEmployee(Long id, UpdateEmployeeRequest request, Collection<Long> acceptedVersions) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ApiException("Employee not found"));
+        if (acceptedVersions != null && !acceptedVersions.contains(employee.getVersion())) {
+            throw new PreconditionFailedException("Employee " + id + " has changed, now at version " + employee.getVersion());
+        }
 
         if (request.getEmail() != null && !request.getEmail().equals(employee.getEmail())
                 && employeeRepository.existsByEmail(request.getEmail())) {
@@ -102,7 +154,16 @@ public class EmployeeServiceImpl implements EmployeeService {
             employee.setStartWorkDate(request.getStartWorkDate());
         }
 
-        return employeeMapper.toDto(employeeRepository.save(employee));
+        // flushed now so that the returned version is the new one
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        TransactionHooks.afterCommit(() -> {
+            searchIndex.index(saved);
+            searchIndex.markStale(1);
+            payroll.put(saved);
+            employeeCache.invalidate(id);
+            resultCache.bump(QueryResultCache.EMPLOYEE);
+        });
+        return employeeMapper.toDto(saved);
     }
 
     @Override
@@ -111,28 +172,214 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new ApiException("Employee not found");
         }
         employeeRepository.deleteById(id);
+        TransactionHooks.afterCommit(() -> {
+            searchIndex.markStale(1);
+            payroll.removeAll(List.of(id));
+            employeeCache.invalidate(id);
+            resultCache.bump(QueryResultCache.EMPLOYEE);
+        });
     }
 
     @Override
-    public void deleteEmployees(List<Long> ids) {
-        employeeRepository.deleteAllById(ids);
+    public List<Long> deleteEmployees(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<Long> deleted = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += DELETE_CHUNK) {
+            List<Long> existing = employeeRepository.lockExistingIds(
+                    distinct.subList(from, Math.min(from + DELETE_CHUNK, distinct.size())));
+            if (!existing.isEmpty()) {
+                employeeRepository.deleteByIdIn(existing);
+                deleted.addAll(existing);
+            }
+        }
+        afterDelete(deleted);
+        return deleted;
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long deleteEmployees(EmployeeFilter filter) {
+        if (!filter.hasCriteria()) {
+            throw new ApiException("Delete by filter needs at least one criterion");
+        }
+        // Each chunk is its own transaction, so row locks are held for one chunk at a time
+        Specification<Employee> spec = specFor(filter);
+        long total = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = employeeRepository.lockIds(spec, from, DELETE_CHUNK);
+                if (!ids.isEmpty()) {
+                    employeeRepository.deleteByIdIn(ids);
+                    afterDelete(ids);
+                }
+                return ids;
+            });
+            total += deleted.size();
+            if (deleted.size() < DELETE_CHUNK) {
+                return total;
+            }
+            afterId = deleted.get(deleted.size() - 1);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<EmployeeDto> getAllEmployees(Pageable pageable) {
-        return employeeRepository.findAll(pageable).map(employeeMapper::toDto);
+        return pageQueryRunner.page(employeeRepository, (root, query, cb) -> null, pageable);
     }
 
+    /** Read from the cached employee when there is one, otherwise as a single column by primary key. */
     @Override
-    public EmployeeDto getEmployeeById(Long id) {
-        return employeeRepository.findById(id)
-                .map(employeeMapper::toDto)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getEmployeeVersion(Long id) {
+        EmployeeDto cached = employeeCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return RequestStages.time(Stage.QUERY, () -> employeeRepository.findVersionById(id))
                 .orElseThrow(() -> new ApiException("Employee not found"));
     }
 
+    /** Served from {@link PayrollAggregates}; never touches the table. */
     @Override
+    public PayrollSummary getPayrollSummary() {
+        return payroll.summary();
+    }
+
+    /** Served from the salary sketches in {@link PayrollAggregates}; only position and start date can scope it. */
+    @Override
+    public SalaryDistribution getSalaryDistribution(EmployeeFilter filter, double bucketWidth) {
+        EmployeeFilter normalized = filter.normalized();
+        if (normalized.getName() != null || normalized.getEmail() != null || normalized.getPhone() != null
+                || filter.getMinSalary() != null || filter.getMaxSalary() != null) {
+            throw new ApiException("Salary distribution can only be scoped by position and start date");
+        }
+        if (!(bucketWidth > 0) || Double.isInfinite(bucketWidth)) {
+            throw new ApiException("Bucket width must be a positive number");
+        }
+        return payroll.salaryDistribution(filter, bucketWidth);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public EmployeeDto getEmployeeById(Long id) {
+        // SUPPORTS: a cache hit should not begin a transaction and check out a connection
+        return employeeCache.get(id, key -> RequestStages.time(Stage.QUERY, () -> employeeRepository.findById(key))
+                .map(employee -> RequestStages.time(Stage.MAPPING, () -> employeeMapper.toDto(employee)))
+                .orElseThrow(() -> new ApiException("Employee not found")));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<EmployeeDto> filterEmployees(EmployeeFilter filter, Pageable pageable) {
-        Specification<Employee> spec = EmployeeSpecification.withFilter(filter);
-        return employeeRepository.findAll(spec, pageable).map(employeeMapper::toDto);
+        return resultCache.get(QueryResultCache.EMPLOYEE, List.of(filter.normalized(), pageable), () -> {
+            Specification<Employee> spec = specFor(filter);
+            return pageQueryRunner.page(employeeRepository, spec, pageable);
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Slice<EmployeeDto> filterEmployees(EmployeeFilter filter, Pageable pageable, CountMode countMode) {
+        EmployeeFilter normalized = filter.normalized();
+        return resultCache.get(QueryResultCache.EMPLOYEE, List.of(normalized, pageable, countMode), () -> {
+            Specification<Employee> spec = specFor(filter);
+            return pageQueryRunner.find(employeeRepository, spec, pageable, countMode, normalized);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<EmployeeDto> scrollEmployees(EmployeeFilter filter, String sort, String after, int size) {
+        if (size < 1) {
+            throw new ApiException("Page size must be positive");
+        }
+        KeysetCursor cursor = after == null || after.isBlank() ? null : KeysetCursor.decode(after);
+        String sortField = cursor != null ? cursor.getSortField() : sort;
+        if (!EmployeeSpecification.KEYSET_SORT_FIELDS.contains(sortField)) {
+            throw new ApiException("Unsupported sort field: " + sortField);
+        }
+
+        Specification<Employee> spec = specFor(filter);
+        Specification<Employee> page = cursor == null ? spec : spec.and(EmployeeSpecification.after(cursor));
+        List<EmployeeDto> rows = RequestStages.time(Stage.QUERY, () ->
+                employeeRepository.findDtos(page, KeysetCursor.sortFor(sortField), 0, size + 1));
+        return KeysetCursor.toPage(rows, size, sortField, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Facet, List<FacetCount>> countFacets(EmployeeFilter filter, Set<Facet> facets, double salaryBandWidth) {
+        if (facets.contains(Facet.SALARY_BAND) && !(salaryBandWidth > 0)) {
+            throw new ApiException("Salary band width must be positive");
+        }
+        EmployeeFilter normalized = filter.normalized();
+        return resultCache.get(QueryResultCache.EMPLOYEE, List.of(normalized, EnumSet.copyOf(facets), salaryBandWidth), () -> {
+            Specification<Employee> spec = specFor(filter);
+            return RequestStages.time(Stage.FACETS, () ->
+                    employeeRepository.countFacets(spec, facets, salaryBandWidth));
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(EmployeeFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Employee> rows = employeeRepository.streamAll(specFor(filter))) {
+            exportWriter.write(rows.map(employeeMapper::toDto), format, out);
+        }
+    }
+
+    private void afterDelete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            searchIndex.markStale(ids.size());
+            payroll.removeAll(ids);
+            employeeCache.invalidateAll(ids);
+            resultCache.bump(QueryResultCache.EMPLOYEE);
+        });
+    }
+
+    /** Lower-cased emails of {@code requests} that are already taken, looked up in chunks of one IN query each. */
+    private Set<String> findExistingEmails(List<CreateEmployeeRequest> requests) {
+        List<String> emails = requests.stream()
+                .map(CreateEmployeeRequest::getEmail)
+                .filter(Objects::nonNull)
+                .map(String::toLowerCase)
+                .distinct()
+                .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK) {
+            List<String> chunk = emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, emails.size()));
+            existing.addAll(employeeRepository.findExistingEmails(chunk));
+        }
+        return existing;
+    }
+
+    private Employee toEntity(CreateEmployeeRequest request) {
+        return Employee.builder()
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .email(request.getEmail())
+                .phone(request.getPhone())
+                .position(request.getPosition())
+                .salary(request.getSalary())
+                .startWorkDate(request.getStartWorkDate())
+                .build();
+    }
+
+    /**
+     * Filter specification, narrowed to the search index candidates when the substring
+     * criteria are selective enough; the LIKE predicates still run to drop false positives.
+     */
+    private Specification<Employee> specFor(EmployeeFilter filter) {
+        return RequestStages.time(Stage.SPECIFICATION, () -> {
+            Specification<Employee> spec = EmployeeSpecification.withFilter(filter);
+            Collection<Long> candidates = searchIndex.candidateIds(filter);
+            return candidates == null ? spec : EmployeeSpecification.idIn(candidates).and(spec);
+        });
     }
 }
@@ -0,0 +1,318 @@
+package com.project.employee.service.impl;
+
+import com.project.employee.dto.BulkCreateResult;
+import com.project.employee.dto.BulkRowError;
+import com.project.employee.dto.CreateEmployeeRequest;
+import com.project.employee.dto.EmployeeDto;
+import com.project.employee.dto.ImportJobDto;
+import com.project.employee.dto.ImportJobErrorDto;
+import com.project.employee.exception.ApiException;
+import com.project.employee.imports.EmployeeCsvReader;
+import com.project.employee.mapper.ImportJobMapper;
+import com.project.employee.model.ImportJob;
+import com.project.employee.model.ImportJobError;
+import com.project.employee.model.ImportJobStatus;
+import com.project.employee.repository.ImportJobErrorRepository;
+import com.project.employee.repository.ImportJobRepository;
+import com.project.employee.service.EmployeeService;
+import com.project.employee.service.ImportJobService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employee CSV files in the background. The upload is stored on disk, then read
+ * in chunks of {@code import.chunk-size} records; every chunk is validated with the
+ * {@link CreateEmployeeRequest} constraints, inserted through
+ * {@link EmployeeService#createEmployees} and committed together with the job counters.
+ * A job interrupted by a crash or a database error continues after its last committed
+ * chunk, either on the next startup or through {@link #resume}.
+ */
+@Slf4j
+@Service
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final ImportJobRepository jobRepository;
+    private final ImportJobErrorRepository errorRepository;
+    private final ImportJobMapper jobMapper;
+    private final EmployeeService employeeService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final Path directory;
+    private final int chunkSize;
+
+    /** Jobs currently owned by a worker thread, so a resume cannot start a second run. */
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public ImportJobServiceImpl(ImportJobRepository jobRepository,
+                                ImportJobErrorRepository errorRepository,
+                                ImportJobMapper jobMapper,
+                                EmployeeService employeeService,
+                                Validator validator,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("importJobExecutor") Executor executor,
+                                @Value("${import.dir:${java.io.tmpdir}/employee-imports}") Path directory,
+                                @Value("${import.chunk-size:1000}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.jobMapper = jobMapper;
+        this.employeeService = employeeService;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportJobDto submit(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new ApiException("File is empty");
+        }
+        Path target = store(file);
+        checkHeader(target);
+
+        ImportJob job = jobRepository.save(ImportJob.builder()
+                .fileName(file.getOriginalFilename())
+                .storagePath(target.toString())
+                .status(ImportJobStatus.QUEUED)
+                .totalBytes(file.getSize())
+                .build());
+        schedule(job);
+        return jobMapper.toDto(job);
+    }
+
+    @Override
+    public ImportJobDto resume(Long id) {
+        ImportJob job = findJob(id);
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            throw new ApiException("Import job is already completed");
+        }
+        if (running.contains(id)) {
+            throw new ApiException("Import job is already running");
+        }
+        job.setStatus(ImportJobStatus.QUEUED);
+        job.setLastError(null);
+        job = jobRepository.save(job);
+        schedule(job);
+        return jobMapper.toDto(job);
+    }
+
+    @Override
+    public ImportJobDto getJob(Long id) {
+        return jobMapper.toDto(findJob(id));
+    }
+
+    @Override
+    public Page<ImportJobDto> getJobs(Pageable pageable) {
+        return jobRepository.findAll(pageable).map(jobMapper::toDto);
+    }
+
+    @Override
+    public Page<ImportJobErrorDto> getErrors(Long id, Pageable pageable) {
+        findJob(id);
+        return errorRepository.findByJobIdOrderByLineNumber(id, pageable).map(jobMapper::toDto);
+    }
+
+    /** Picks up jobs that were queued or running when the application last stopped. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (ImportJob job : jobRepository.findByStatusIn(List.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING))) {
+            log.info("Resuming import job {} after row {}", job.getId(), job.getRowsProcessed());
+            try {
+                schedule(job);
+            } catch (ApiException e) {
+                log.warn("Import job {} could not be resumed: {}", job.getId(), e.getMessage());
+            }
+        }
+    }
+
+    void run(Long jobId) {
+        if (!running.add(jobId)) {
+            return;
+        }
+        try {
+            ImportJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || job.getStatus() == ImportJobStatus.COMPLETED) {
+                return;
+            }
+            job.setStatus(ImportJobStatus.RUNNING);
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(LocalDateTime.now());
+            }
+            job = jobRepository.save(job);
+
+            importFile(job);
+
+            job = findJob(jobId);
+            job.setStatus(ImportJobStatus.COMPLETED);
+            job.setBytesProcessed(job.getTotalBytes());
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            Files.deleteIfExists(Path.of(job.getStoragePath()));
+            log.info("Import job {} completed: {} rows, {} created, {} failed",
+                    jobId, job.getRowsProcessed(), job.getRowsCreated(), job.getRowsFailed());
+        } catch (Exception e) {
+            log.error("Import job {} failed", jobId, e);
+            jobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(ImportJobStatus.FAILED);
+                job.setLastError(truncate(String.valueOf(e.getMessage())));
+                jobRepository.save(job);
+            });
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private void importFile(ImportJob job) throws IOException {
+        try (EmployeeCsvReader reader = new EmployeeCsvReader(Files.newInputStream(Path.of(job.getStoragePath())))) {
+            reader.readHeader();
+            reader.skip(job.getRowsProcessed());
+
+            List<EmployeeCsvReader.Row> chunk = new ArrayList<>(chunkSize);
+            long started = System.nanoTime();
+            EmployeeCsvReader.Row row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    commitChunk(job.getId(), chunk, reader.bytesRead(), started);
+                    chunk.clear();
+                    started = System.nanoTime();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(job.getId(), chunk, reader.bytesRead(), started);
+            }
+        }
+    }
+
+    /** Inserts one chunk and advances the checkpoint in the same transaction. */
+    private void commitChunk(Long jobId, List<EmployeeCsvReader.Row> rows, long bytesRead, long startedNanos) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<CreateEmployeeRequest> requests = new ArrayList<>(rows.size());
+            List<Long> lineNumbers = new ArrayList<>(rows.size());
+            List<ImportJobError> errors = new ArrayList<>();
+
+            for (EmployeeCsvReader.Row row : rows) {
+                String problem = row.error() != null ? row.error() : validate(row.request());
+                if (problem != null) {
+                    errors.add(error(jobId, row.lineNumber(), row.key(), problem));
+                } else {
+                    requests.add(row.request());
+                    lineNumbers.add(row.lineNumber());
+                }
+            }
+
+            BulkCreateResult<EmployeeDto> result = employeeService.createEmployees(requests);
+            for (BulkRowError rejected : result.getErrors()) {
+                errors.add(error(jobId, lineNumbers.get(rejected.getIndex()), rejected.getKey(), rejected.getMessage()));
+            }
+            errorRepository.saveAll(errors);
+
+            ImportJob job = findJob(jobId);
+            job.setRowsProcessed(job.getRowsProcessed() + rows.size());
+            job.setRowsCreated(job.getRowsCreated() + result.getCreated().size());
+            job.setRowsFailed(job.getRowsFailed() + errors.size());
+            job.setBytesProcessed(Math.min(bytesRead, job.getTotalBytes()));
+            job.setProcessingMillis(job.getProcessingMillis() + (System.nanoTime() - startedNanos) / 1_000_000);
+            jobRepository.save(job);
+        });
+    }
+
+    private String validate(CreateEmployeeRequest request) {
+        Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void schedule(ImportJob job) {
+        Long id = job.getId();
+        try {
+            executor.execute(() -> run(id));
+        } catch (TaskRejectedException e) {
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setLastError("Import queue is full");
+            jobRepository.save(job);
+            throw new ApiException("Import queue is full, resume the job later");
+        }
+    }
+
+    private Path store(MultipartFile file) {
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve(UUID.randomUUID() + ".csv");
+            file.transferTo(target);
+            return target;
+        } catch (IOException e) {
+            throw new ApiException("Could not store uploaded file: " + e.getMessage());
+        }
+    }
+
+    /** Rejects files without the required columns before a job is created for them. */
+    private void checkHeader(Path file) {
+        try (InputStream in = Files.newInputStream(file);
+             EmployeeCsvReader reader = new EmployeeCsvReader(in)) {
+            reader.readHeader();
+        } catch (IllegalArgumentException | IOException e) {
+            deleteQuietly(file);
+            throw new ApiException(e.getMessage());
+        }
+    }
+
+    private ImportJob findJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ApiException("Import job not found"));
+    }
+
+    private static ImportJobError error(Long jobId, long lineNumber, String key, String message) {
+        return ImportJobError.builder()
+                .jobId(jobId)
+                .lineNumber(lineNumber)
+                .rowKey(key)
+                .message(truncate(message))
+                .build();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.employee.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.employee.dto.ApproximatePage;
+import com.project.employee.metrics.RequestStages;
+import com.project.employee.metrics.RequestStages.Stage;
+import com.project.employee.repository.DtoProjectionExecutor;
+import com.project.employee.spec.CountMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs a specification page query with the requested {@link CountMode}.
+ * Returns a {@link Slice} for NONE, an {@link ApproximatePage} when the total came
+ * from the count cache and an exact {@link Page} otherwise.
+ *
+ * <p>Rows are selected straight into DTOs through {@link DtoProjectionExecutor}, in a
+ * read-only transaction: no entities are managed and Hibernate never flushes.
+ */
+@Component
+public class PageQueryRunner {
+
+    private static final Duration COUNT_TTL = Duration.ofSeconds(30);
+
+    private final Executor countExecutor;
+    private final TransactionTemplate readOnly;
+    private final Cache<Object, Long> countCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(COUNT_TTL)
+            .build();
+
+    public PageQueryRunner(@Qualifier("countQueryExecutor") Executor countExecutor,
+                           PlatformTransactionManager transactionManager) {
+        this.countExecutor = countExecutor;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    /**
+     * @param countKey normalized filter identifying the count; filters of different
+     *                 entities are different classes, so keys never collide
+     */
+    public <T, D, R extends JpaSpecificationExecutor<T> & DtoProjectionExecutor<T, D>> Slice<D> find(
+            R repository, Specification<T> spec, Pageable pageable, CountMode mode, Object countKey) {
+        return readOnly.execute(status -> switch (mode) {
+            case NONE -> slice(repository, spec, pageable);
+            case CONCURRENT -> concurrent(repository, spec, pageable);
+            case CACHED -> {
+                Long cached = countCache.getIfPresent(countKey);
+                List<D> content = content(repository, spec, pageable);
+                if (cached != null) {
+                    yield new ApproximatePage<>(content, pageable, cached);
+                }
+                Page<D> page = PageableExecutionUtils.getPage(content, pageable, () -> count(repository, spec));
+                countCache.put(countKey, page.getTotalElements());
+                yield page;
+            }
+            case EXACT -> exact(repository, spec, pageable);
+        });
+    }
+
+    /** A page with an exact total. */
+    public <T, D, R extends JpaSpecificationExecutor<T> & DtoProjectionExecutor<T, D>> Page<D> page(
+            R repository, Specification<T> spec, Pageable pageable) {
+        return readOnly.execute(status -> exact(repository, spec, pageable));
+    }
+
+    private <T, D, R extends JpaSpecificationExecutor<T> & DtoProjectionExecutor<T, D>> Page<D> exact(
+            R repository, Specification<T> spec, Pageable pageable) {
+        return PageableExecutionUtils.getPage(content(repository, spec, pageable), pageable, () -> count(repository, spec));
+    }
+
+    /**
+     * Counts on {@code countExecutor} while this thread reads the page. The count runs in
+     * its own read-only transaction, so it takes a second pooled connection and sees its
+     * own snapshot; the total may miss rows committed between the two queries. The
+     * executor's threads cap those extra connections for all requests together, and a
+     * count it cannot queue runs on the caller's thread and connection instead.
+     */
+    private <T, D, R extends JpaSpecificationExecutor<T> & DtoProjectionExecutor<T, D>> Page<D> concurrent(
+            R repository, Specification<T> spec, Pageable pageable) {
+        CompletableFuture<Long> total = CompletableFuture.supplyAsync(
+                RequestStages.timed(Stage.COUNT, () -> readOnly.execute(status -> repository.count(spec))),
+                countExecutor);
+        try {
+            List<D> content = content(repository, spec, pageable);
+            return new PageImpl<>(content, pageable, total.join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            // drops a count still queued when the content query failed; a running one completes
+            total.cancel(false);
+        }
+    }
+
+    private <T, D> Slice<D> slice(DtoProjectionExecutor<T, D> repository, Specification<T> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(content(repository, spec, pageable), pageable, false);
+        }
+        // one row past the page tells whether there is a next slice
+        List<D> rows = RequestStages.time(Stage.QUERY, () ->
+                repository.findDtos(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1));
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    private <T, D> List<D> content(DtoProjectionExecutor<T, D> repository, Specification<T> spec, Pageable pageable) {
+        return RequestStages.time(Stage.QUERY, () -> pageable.isUnpaged()
+                ? repository.findDtos(spec, pageable.getSort(), 0, -1)
+                : repository.findDtos(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    private <T> long count(JpaSpecificationExecutor<T> repository, Specification<T> spec) {
+        return RequestStages.time(Stage.COUNT, () -> repository.count(spec));
+    }
+}
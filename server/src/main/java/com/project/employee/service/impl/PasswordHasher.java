@@ -0,0 +1,37 @@
+package com.project.employee.service.impl;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Encodes many passwords in parallel on the bounded {@code passwordHashExecutor}.
+ * Bulk user writes call it before opening their transaction, so no connection is
+ * held while BCrypt runs.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") Executor executor) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+    }
+
+    /** Encoded passwords in the order of {@code rawPasswords}; null entries stay null. */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> encoded = rawPasswords.stream()
+                .map(raw -> raw == null
+                        ? CompletableFuture.<String>completedFuture(null)
+                        : CompletableFuture.supplyAsync(() -> passwordEncoder.encode(raw), executor))
+                .toList();
+        return encoded.stream().map(CompletableFuture::join).toList();
+    }
+}
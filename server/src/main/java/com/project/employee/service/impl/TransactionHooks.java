@@ -0,0 +1,25 @@
+package com.project.employee.service.impl;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Defers in-memory side effects of a write until its transaction has committed. */
+final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /** Runs {@code action} after the current transaction commits, or immediately when there is none. */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
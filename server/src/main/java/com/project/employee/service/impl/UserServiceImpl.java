@@ -1,21 +1,42 @@
 package com.project.employee.service.impl;
 
 import com.project.employee.dto.*;
+import com.project.employee.cache.QueryResultCache;
+import com.project.employee.exception.ApiException;
+import com.project.employee.exception.PreconditionFailedException;
 import com.project.employee.mapper.UserMapper;
+import com.project.employee.metrics.RequestStages;
+import com.project.employee.metrics.RequestStages.Stage;
 import com.project.employee.model.User;
+import com.project.employee.repository.UserBatchWriter;
 import com.project.employee.repository.UserRepository;
+import com.project.employee.search.UsernameFilter;
+import com.project.employee.security.RefreshSessionStore;
 import com.project.employee.service.UserService;
+import com.project.employee.spec.CountMode;
+import com.project.employee.spec.KeysetCursor;
 import com.project.employee.spec.UserFilter;
 import com.project.employee.spec.UserSpecification;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,12 +44,25 @@ import java.util.stream.Collectors;
 @Transactional
 public class UserServiceImpl implements UserService {
 
+    private static final int USERNAME_LOOKUP_CHUNK = 1000;
+    private static final int DELETE_CHUNK = 1000;
+
     private final UserMapper userMapper;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PageQueryRunner pageQueryRunner;
+    private final QueryResultCache resultCache;
+    private final RefreshSessionStore refreshSessions;
+    private final PasswordHasher passwordHasher;
+    private final UserBatchWriter userBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final UsernameFilter usernameFilter;
 
     @Override
     public UserDto createUser(CreateUserRequest request) {
+        if (usernameTaken(request.getUsername())) {
+            throw new ApiException("Username already exists");
+        }
         User user = new User();
         user.setName(request.getName());
         user.setUsername(request.getUsername());
@@ -36,37 +70,77 @@ public class UserServiceImpl implements UserService {
         user.setRole(request.getRole());
 
         User savedUser = userRepository.save(user);
+        TransactionHooks.afterCommit(() -> {
+            usernameFilter.add(savedUser.getUsername());
+            resultCache.bump(QueryResultCache.USERS);
+        });
         return userMapper.toDto(savedUser);
     }
 
     @Override
-    public List<UserDto> createUsers(List<CreateUserRequest> requests) {
-        List<User> users = requests.stream()
-                .map(request -> {
-                    User user = new User();
-                    user.setName(request.getName());
-                    user.setUsername(request.getUsername());
-                    user.setPassword(passwordEncoder.encode(request.getPassword()));
-                    user.setRole(request.getRole());
-                    return user;
-                })
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCreateResult<UserDto> createUsers(List<CreateUserRequest> requests) {
+        // Usernames are compared lower-cased, like the case-insensitive unique index on MySQL
+        Set<String> existing = findExistingUsernames(requests);
+        Set<String> seen = new HashSet<>();
+        List<CreateUserRequest> accepted = new ArrayList<>(requests.size());
+        List<BulkRowError> errors = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateUserRequest request = requests.get(i);
+            if (request.getUsername() == null) {
+                errors.add(new BulkRowError(i, null, "Username is required"));
+                continue;
+            }
+            String key = request.getUsername().toLowerCase(Locale.ROOT);
+            if (existing.contains(key)) {
+                errors.add(new BulkRowError(i, request.getUsername(), "Username already exists"));
+            } else if (!seen.add(key)) {
+                errors.add(new BulkRowError(i, request.getUsername(), "Duplicate username in request"));
+            } else {
+                accepted.add(request);
+            }
+        }
 
-        List<User> savedUsers = userRepository.saveAll(users);
-        return savedUsers.stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+        // Hash first, outside any transaction, then write everything in one short one
+        List<String> passwords = passwordHasher.encodeAll(
+                accepted.stream().map(CreateUserRequest::getPassword).toList());
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            CreateUserRequest request = accepted.get(i);
+            User user = new User();
+            user.setName(request.getName());
+            user.setUsername(request.getUsername());
+            user.setPassword(passwords.get(i));
+            user.setRole(request.getRole());
+            users.add(user);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userBatchWriter.insertAll(users);
+            TransactionHooks.afterCommit(() -> {
+                usernameFilter.addAll(users.stream().map(User::getUsername).toList());
+                resultCache.bump(QueryResultCache.USERS);
+            });
+        });
+        return new BulkCreateResult<>(users.stream().map(userMapper::toDto).toList(), errors);
     }
 
     @Override
-    public UserDto updateUser(Long id, UpdateUserRequest request) {
+    public UserDto updateUser(Long id, UpdateUserRequest request, Collection<Long> acceptedVersions) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        if (acceptedVersions != null && !acceptedVersions.contains(user.getVersion())) {
+            throw new PreconditionFailedException("User " + id + " has changed, now at version " + user.getVersion());
+        }
 
         if (request.getName() != null) {
             user.setName(request.getName());
         }
-        if (request.getUsername() != null) {
+        boolean renamed = request.getUsername() != null && !request.getUsername().equals(user.getUsername());
+        if (renamed) {
+            if (usernameTaken(request.getUsername())) {
+                throw new ApiException("Username already exists");
+            }
             user.setUsername(request.getUsername());
         }
 
@@ -74,31 +148,63 @@ public class UserServiceImpl implements UserService {
             user.setRole(request.getRole());
         }
 
-        return userMapper.toDto(userRepository.save(user));
+        // flushed now so that the returned version is the new one
+        User savedUser = userRepository.saveAndFlush(user);
+        TransactionHooks.afterCommit(() -> {
+            refreshSessions.userChanged(savedUser.getId(), savedUser.getUsername(), savedUser.getRole());
+            if (renamed) {
+                usernameFilter.add(savedUser.getUsername());
+                usernameFilter.markStale(1);
+            }
+            resultCache.bump(QueryResultCache.USERS);
+        });
+        return userMapper.toDto(savedUser);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<UserDto> updateUsers(List<BulkUpdateUserRequest> users) {
-        List<User> updatedUsers = users.stream()
-                .map(user -> {
-                    User existingUser = userRepository.findById(user.getId())
-                            .orElseThrow(() -> new RuntimeException("User not found with id: " + user.getId()));
-
-                    if (user.getName() != null) {
-                        existingUser.setName(user.getName());
-                    }
-                    if (user.getUsername() != null) {
-                        existingUser.setUsername(user.getUsername());
-                    }
-                    if (user.getPassword() != null) {
-                        existingUser.setPassword(passwordEncoder.encode(user.getPassword()));
-                    }
-                    if (user.getRole() != null) {
-                        existingUser.setRole(user.getRole());
-                    }
-                    return userRepository.save(existingUser);
-                })
-                .collect(Collectors.toList());
+        List<String> passwords = passwordHasher.encodeAll(
+                users.stream().map(BulkUpdateUserRequest::getPassword).toList());
+
+        List<User> updatedUsers = transactionTemplate.execute(status -> {
+            Map<Long, User> existing = userRepository.findAllById(
+                            users.stream().map(BulkUpdateUserRequest::getId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+
+            List<User> updated = new ArrayList<>(users.size());
+            List<String> newNames = new ArrayList<>();
+            for (int i = 0; i < users.size(); i++) {
+                BulkUpdateUserRequest user = users.get(i);
+                User existingUser = existing.get(user.getId());
+                if (existingUser == null) {
+                    throw new RuntimeException("User not found with id: " + user.getId());
+                }
+                if (user.getName() != null) {
+                    existingUser.setName(user.getName());
+                }
+                if (user.getUsername() != null && !user.getUsername().equals(existingUser.getUsername())) {
+                    existingUser.setUsername(user.getUsername());
+                    newNames.add(user.getUsername());
+                }
+                if (passwords.get(i) != null) {
+                    existingUser.setPassword(passwords.get(i));
+                }
+                if (user.getRole() != null) {
+                    existingUser.setRole(user.getRole());
+                }
+                updated.add(existingUser);
+            }
+            // Managed entities: the changes go out as one batched flush on commit (hibernate.jdbc.batch_size)
+            TransactionHooks.afterCommit(() -> {
+                updated.forEach(user -> refreshSessions.userChanged(user.getId(), user.getUsername(), user.getRole()));
+                usernameFilter.addAll(newNames);
+                usernameFilter.markStale(newNames.size());
+                resultCache.bump(QueryResultCache.USERS);
+            });
+            return updated;
+        });
 
         return updatedUsers.stream()
                 .map(userMapper::toDto)
@@ -111,22 +217,95 @@ public class UserServiceImpl implements UserService {
             throw new RuntimeException("User not found with id: " + id);
         }
         userRepository.deleteById(id);
+        TransactionHooks.afterCommit(() -> {
+            refreshSessions.closeUser(id);
+            usernameFilter.markStale(1);
+            resultCache.bump(QueryResultCache.USERS);
+        });
     }
 
     @Override
-    public void deleteUsers(List<Long> ids) {
-        userRepository.deleteAllById(ids);
+    public List<Long> deleteUsers(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<Long> deleted = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += DELETE_CHUNK) {
+            List<Long> existing = userRepository.lockExistingIds(
+                    distinct.subList(from, Math.min(from + DELETE_CHUNK, distinct.size())));
+            if (!existing.isEmpty()) {
+                userRepository.deleteByIdIn(existing);
+                deleted.addAll(existing);
+            }
+        }
+        TransactionHooks.afterCommit(() -> {
+            refreshSessions.closeUsers(deleted);
+            usernameFilter.markStale(deleted.size());
+            resultCache.bump(QueryResultCache.USERS);
+        });
+        return deleted;
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<UserDto> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable)
-                .map(userMapper::toDto);
+        return pageQueryRunner.page(userRepository, (root, query, cb) -> null, pageable);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<UserDto> filterUsers(UserFilter filter, Pageable pageable) {
-        Specification<User> spec = UserSpecification.withFilter(filter);
-        return userRepository.findAll(spec, pageable).map(userMapper::toDto);
+        return resultCache.get(QueryResultCache.USERS, List.of(filter.normalized(), pageable), () -> {
+            Specification<User> spec = RequestStages.time(Stage.SPECIFICATION, () -> UserSpecification.withFilter(filter));
+            return pageQueryRunner.page(userRepository, spec, pageable);
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Slice<UserDto> filterUsers(UserFilter filter, Pageable pageable, CountMode countMode) {
+        UserFilter normalized = filter.normalized();
+        return resultCache.get(QueryResultCache.USERS, List.of(normalized, pageable, countMode), () -> {
+            Specification<User> spec = RequestStages.time(Stage.SPECIFICATION, () -> UserSpecification.withFilter(filter));
+            return pageQueryRunner.find(userRepository, spec, pageable, countMode, normalized);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<UserDto> scrollUsers(UserFilter filter, String sort, String after, int size) {
+        if (size < 1) {
+            throw new ApiException("Page size must be positive");
+        }
+        KeysetCursor cursor = after == null || after.isBlank() ? null : KeysetCursor.decode(after);
+        String sortField = cursor != null ? cursor.getSortField() : sort;
+        if (!UserSpecification.KEYSET_SORT_FIELDS.contains(sortField)) {
+            throw new ApiException("Unsupported sort field: " + sortField);
+        }
+
+        Specification<User> spec = RequestStages.time(Stage.SPECIFICATION, () -> UserSpecification.withFilter(filter));
+        Specification<User> page = cursor == null ? spec : spec.and(UserSpecification.after(cursor));
+        List<UserDto> rows = RequestStages.time(Stage.QUERY, () ->
+                userRepository.findDtos(page, KeysetCursor.sortFor(sortField), 0, size + 1));
+        return KeysetCursor.toPage(rows, size, sortField, Function.identity());
+    }
+
+    /** Goes to the database only when the username filter cannot rule the name out. */
+    private boolean usernameTaken(String username) {
+        return usernameFilter.mightExist(username) && userRepository.existsByUsername(username);
+    }
+
+    /** Lower-cased usernames among {@code requests} that are taken, checked in IN chunks. */
+    private Set<String> findExistingUsernames(List<CreateUserRequest> requests) {
+        List<String> candidates = requests.stream()
+                .map(CreateUserRequest::getUsername)
+                .filter(usernameFilter::mightExist)
+                .distinct()
+                .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += USERNAME_LOOKUP_CHUNK) {
+            List<String> chunk = candidates.subList(from, Math.min(from + USERNAME_LOOKUP_CHUNK, candidates.size()));
+            userRepository.findExistingUsernames(chunk)
+                    .forEach(username -> existing.add(username.toLowerCase(Locale.ROOT)));
+        }
+        return existing;
     }
 }
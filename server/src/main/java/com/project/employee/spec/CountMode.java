@@ -0,0 +1,13 @@
+package com.project.employee.spec;
+
+/**
+ * How a filtered page obtains its total.
+ * EXACT runs the count after the page, CONCURRENT runs it in parallel with the page,
+ * CACHED reuses a recent count for the same normalized filter and NONE skips it entirely.
+ */
+public enum CountMode {
+    EXACT,
+    CONCURRENT,
+    CACHED,
+    NONE
+}
@@ -13,4 +13,34 @@ public class EmployeeFilter {
     private Double maxSalary;
     private LocalDate startWorkDateFrom;
     private LocalDate startWorkDateTo;
+    private MatchMode matchMode = MatchMode.CONTAINS;
+
+    /**
+     * Copy usable as a cache key: blank criteria are dropped and the case-insensitive
+     * ones lower-cased, so filters matching the same rows compare equal.
+     */
+    public EmployeeFilter normalized() {
+        EmployeeFilter copy = new EmployeeFilter();
+        copy.setName(lower(name));
+        copy.setEmail(lower(email));
+        copy.setPosition(lower(position));
+        copy.setPhone(phone == null || phone.trim().isEmpty() ? null : phone);
+        copy.setMinSalary(minSalary);
+        copy.setMaxSalary(maxSalary);
+        copy.setStartWorkDateFrom(startWorkDateFrom);
+        copy.setStartWorkDateTo(startWorkDateTo);
+        copy.setMatchMode(matchMode);
+        return copy;
+    }
+
+    /** Whether any criterion is set; the match mode alone does not restrict anything. */
+    public boolean hasCriteria() {
+        EmployeeFilter n = normalized();
+        return n.name != null || n.email != null || n.position != null || n.phone != null
+                || minSalary != null || maxSalary != null || startWorkDateFrom != null || startWorkDateTo != null;
+    }
+
+    private static String lower(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.toLowerCase();
+    }
 }
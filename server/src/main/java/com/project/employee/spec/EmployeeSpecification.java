@@ -1,36 +1,47 @@
 package com.project.employee.spec;
 
 import com.project.employee.model.Employee;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public class EmployeeSpecification {
+    /** Non-null columns that can drive keyset pagination. */
+    public static final Set<String> KEYSET_SORT_FIELDS = Set.of("id", "lastName", "email", "startWorkDate");
+
     public static Specification<Employee> withFilter(EmployeeFilter filter) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
+            MatchMode mode = filter.getMatchMode() == null ? MatchMode.CONTAINS : filter.getMatchMode();
+
             if (filter.getName() != null && !filter.getName().trim().isEmpty()) {
                 predicates.add(cb.or(
-                    cb.like(cb.lower(root.get("firstName")), "%" + filter.getName().toLowerCase() + "%"),
-                    cb.like(cb.lower(root.get("lastName")), "%" + filter.getName().toLowerCase() + "%")
+                    matches(root, cb, "firstName", filter.getName(), mode),
+                    matches(root, cb, "lastName", filter.getName(), mode)
                 ));
             }
 
             if (filter.getEmail() != null && !filter.getEmail().trim().isEmpty()) {
-                predicates.add(cb.like(cb.lower(root.get("email")),
-                    "%" + filter.getEmail().toLowerCase() + "%"));
+                predicates.add(matches(root, cb, "email", filter.getEmail(), mode));
             }
 
             if (filter.getPosition() != null && !filter.getPosition().trim().isEmpty()) {
-                predicates.add(cb.like(cb.lower(root.get("position")),
-                    "%" + filter.getPosition().toLowerCase() + "%"));
+                predicates.add(matches(root, cb, "position", filter.getPosition(), mode));
             }
 
             if (filter.getPhone() != null && !filter.getPhone().trim().isEmpty()) {
-                predicates.add(cb.like(root.get("phone"), "%" + filter.getPhone() + "%"));
+                predicates.add(switch (mode) {
+                    case CONTAINS -> cb.like(root.get("phone"), "%" + filter.getPhone() + "%");
+                    case PREFIX -> cb.like(root.get("phone"), escapeLike(filter.getPhone()) + "%", '\\');
+                    case EXACT -> cb.equal(root.get("phone"), filter.getPhone());
+                });
             }
 
             if (filter.getMinSalary() != null) {
@@ -54,4 +65,35 @@ public class EmployeeSpecification {
             return predicates.isEmpty() ? cb.conjunction() : cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Case-insensitive match of {@code attribute}. CONTAINS keeps the original
+     * {@code lower(col) LIKE '%term%'}; PREFIX and EXACT compare against the lower-cased
+     * generated column ({@code <attribute>Lc}) so its index can be range-scanned.
+     */
+    private static Predicate matches(Root<Employee> root, CriteriaBuilder cb, String attribute, String term,
+                                     MatchMode mode) {
+        String lower = term.toLowerCase();
+        return switch (mode) {
+            case CONTAINS -> cb.like(cb.lower(root.get(attribute)), "%" + lower + "%");
+            case PREFIX -> cb.like(root.get(attribute + "Lc"), escapeLike(lower) + "%", '\\');
+            case EXACT -> cb.equal(root.get(attribute + "Lc"), lower);
+        };
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public static Specification<Employee> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    public static Specification<Employee> idBelow(long id) {
+        return (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+
+    public static Specification<Employee> after(KeysetCursor cursor) {
+        return cursor.seek();
+    }
 }
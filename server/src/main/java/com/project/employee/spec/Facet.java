@@ -0,0 +1,11 @@
+package com.project.employee.spec;
+
+/**
+ * Groupings that {@code /api/employees/filter} can count the matching employees by.
+ * Salary bands are {@code salaryBandWidth} wide and aligned to multiples of it.
+ */
+public enum Facet {
+    POSITION,
+    SALARY_BAND,
+    START_YEAR
+}
@@ -0,0 +1,127 @@
+package com.project.employee.spec;
+
+import com.project.employee.dto.KeysetPage;
+import com.project.employee.exception.ApiException;
+import jakarta.persistence.criteria.Path;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque continuation token for keyset (seek) pagination.
+ * Encodes the sort field, the last row's value for that field (left out when null) and
+ * the last row's id, so the next page is fetched with a range predicate instead of an OFFSET.
+ */
+public class KeysetCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final String sortField;
+    private final Long lastId;
+    private final String lastValue;
+
+    public KeysetCursor(String sortField, Long lastId, String lastValue) {
+        this.sortField = sortField;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    public static KeysetCursor of(Object lastRow, String sortField) {
+        BeanWrapperImpl row = new BeanWrapperImpl(lastRow);
+        Long id = (Long) row.getPropertyValue("id");
+        Object value = row.getPropertyValue(sortField);
+        return new KeysetCursor(sortField, id, value == null ? null : value.toString());
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            if (parts.length < 2) {
+                throw new ApiException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[0], Long.valueOf(parts[1]), parts.length == 3 ? parts[2] : null);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortField + SEPARATOR + lastId + (lastValue == null ? "" : SEPARATOR + lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSortField() { return sortField; }
+    public Long getLastId() { return lastId; }
+
+    /** Sort matching the seek predicate: the sort field ascending, then id as tie-breaker. */
+    public static Sort sortFor(String sortField) {
+        return "id".equals(sortField) ? Sort.by("id") : Sort.by(sortField).and(Sort.by("id"));
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit(size + 1)}: the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <T, D> KeysetPage<D> toPage(List<T> rows, int size, String sortField, Function<T, D> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? of(content.get(content.size() - 1), sortField).encode() : null;
+        return new KeysetPage<>(content.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+
+    /**
+     * {@code (sortField > lastValue) OR (sortField = lastValue AND id > lastId)}. Nulls sort
+     * first in ascending order on MySQL (and H2), so after a row with a null sort value the
+     * next page is {@code sortField IS NOT NULL OR (sortField IS NULL AND id > lastId)};
+     * non-null rows can never satisfy the first form.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <T> Specification<T> seek() {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            if ("id".equals(sortField)) {
+                return cb.greaterThan(id, lastId);
+            }
+            Path<Comparable> key = root.get(sortField);
+            if (lastValue == null) {
+                return cb.or(
+                    cb.isNotNull(key),
+                    cb.and(cb.isNull(key), cb.greaterThan(id, lastId))
+                );
+            }
+            Comparable value = convert(lastValue, key.getJavaType());
+            return cb.or(
+                cb.greaterThan(key, value),
+                cb.and(cb.equal(key, value), cb.greaterThan(id, lastId))
+            );
+        };
+    }
+
+    private static Comparable<?> convert(String value, Class<?> type) {
+        try {
+            if (LocalDate.class.equals(type)) {
+                return LocalDate.parse(value);
+            }
+            if (LocalDateTime.class.equals(type)) {
+                return LocalDateTime.parse(value);
+            }
+            if (Long.class.equals(type)) {
+                return Long.valueOf(value);
+            }
+            if (Double.class.equals(type)) {
+                return Double.valueOf(value);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            throw new ApiException("Invalid cursor");
+        }
+    }
+}
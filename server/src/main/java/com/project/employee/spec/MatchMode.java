@@ -0,0 +1,12 @@
+package com.project.employee.spec;
+
+/**
+ * How text criteria of an {@link EmployeeFilter} are matched. All modes are case-insensitive.
+ * CONTAINS ({@code LIKE '%term%'}) can never use a B-tree index; PREFIX and EXACT run
+ * against the lower-cased generated columns and are answered by their indexes.
+ */
+public enum MatchMode {
+    CONTAINS,
+    PREFIX,
+    EXACT
+}
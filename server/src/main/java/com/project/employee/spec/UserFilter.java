@@ -7,4 +7,17 @@ public class UserFilter {
     private String username;
     private String role;
     private String name;
+
+    /** Copy usable as a cache key, see {@link EmployeeFilter#normalized()}. */
+    public UserFilter normalized() {
+        UserFilter copy = new UserFilter();
+        copy.setUsername(lower(username));
+        copy.setName(lower(name));
+        copy.setRole(role == null || role.trim().isEmpty() ? null : role);
+        return copy;
+    }
+
+    private static String lower(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.toLowerCase();
+    }
 }
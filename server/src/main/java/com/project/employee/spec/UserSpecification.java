@@ -5,8 +5,12 @@ import org.springframework.data.jpa.domain.Specification;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class UserSpecification {
+    /** Columns that can drive keyset pagination. */
+    public static final Set<String> KEYSET_SORT_FIELDS = Set.of("id", "username");
+
     public static Specification<User> withFilter(UserFilter filter) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -28,4 +32,8 @@ public class UserSpecification {
             return predicates.isEmpty() ? cb.conjunction() : cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    public static Specification<User> after(KeysetCursor cursor) {
+        return cursor.seek();
+    }
 }
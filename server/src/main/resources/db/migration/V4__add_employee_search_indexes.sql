@@ -0,0 +1,20 @@
+-- Lower-cased generated columns so case-insensitive prefix/exact filters can use an index
+-- instead of wrapping the column in lower() at query time
+ALTER TABLE employee
+    ADD COLUMN first_name_lc VARCHAR(255) GENERATED ALWAYS AS (LOWER(first_name)) VIRTUAL,
+    ADD COLUMN last_name_lc VARCHAR(255) GENERATED ALWAYS AS (LOWER(last_name)) VIRTUAL,
+    ADD COLUMN email_lc VARCHAR(255) GENERATED ALWAYS AS (LOWER(email)) VIRTUAL,
+    ADD COLUMN position_lc VARCHAR(255) GENERATED ALWAYS AS (LOWER(position)) VIRTUAL;
+
+-- Range filters and keyset ordering
+CREATE INDEX idx_employee_salary ON employee (salary);
+CREATE INDEX idx_employee_start_work_date ON employee (start_work_date);
+CREATE INDEX idx_employee_last_name ON employee (last_name);
+
+-- Position filters are usually combined with a salary or start date range
+CREATE INDEX idx_employee_position_lc_salary ON employee (position_lc, salary);
+CREATE INDEX idx_employee_position_lc_start ON employee (position_lc, start_work_date);
+
+CREATE INDEX idx_employee_first_name_lc ON employee (first_name_lc);
+CREATE INDEX idx_employee_last_name_lc ON employee (last_name_lc);
+CREATE INDEX idx_employee_email_lc ON employee (email_lc);
@@ -0,0 +1,30 @@
+-- Background CSV imports: one row per uploaded file, its counters are the resume checkpoint
+CREATE TABLE import_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255),
+    storage_path VARCHAR(1024),
+    status VARCHAR(16) NOT NULL,
+    total_bytes BIGINT NOT NULL DEFAULT 0,
+    bytes_processed BIGINT NOT NULL DEFAULT 0,
+    rows_processed BIGINT NOT NULL DEFAULT 0,
+    rows_created BIGINT NOT NULL DEFAULT 0,
+    rows_failed BIGINT NOT NULL DEFAULT 0,
+    processing_millis BIGINT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1024),
+    created_at DATETIME(6),
+    started_at DATETIME(6),
+    finished_at DATETIME(6)
+);
+
+CREATE INDEX idx_import_job_status ON import_job (status);
+
+-- Rejected records, listed by line number
+CREATE TABLE import_job_error (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    line_number BIGINT,
+    row_key VARCHAR(255),
+    message VARCHAR(1024)
+);
+
+CREATE INDEX idx_import_job_error_job ON import_job_error (job_id, line_number);
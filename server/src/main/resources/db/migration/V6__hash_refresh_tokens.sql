@@ -0,0 +1,17 @@
+-- Store a fixed-width SHA-256 of the refresh token instead of the 512 char token itself:
+-- smaller index pages, cheaper writes on login and 32 byte equality lookups
+ALTER TABLE users
+    ADD COLUMN refresh_token_hash BINARY(32) NULL,
+    ADD COLUMN refresh_token_expires_at BIGINT NULL;
+
+-- Keep existing sessions. Their exact expiry cannot be read in SQL, so the maximum refresh
+-- lifetime (7 days) from now is used; the token's own exp claim is still checked on every use
+UPDATE users
+SET refresh_token_hash = UNHEX(SHA2(refresh_token, 256)),
+    refresh_token_expires_at = UNIX_TIMESTAMP() + 7 * 24 * 3600
+WHERE refresh_token IS NOT NULL;
+
+DROP INDEX idx_refresh_token ON users;
+ALTER TABLE users DROP COLUMN refresh_token;
+
+CREATE INDEX idx_refresh_token_hash ON users (refresh_token_hash);
@@ -0,0 +1,7 @@
+-- Optimistic locking: JPA updates check and bump the version, which also serves as the
+-- ETag of the row. Existing rows start at 0
+ALTER TABLE employee
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE users
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,98 @@
+package com.project.employee.analytics;
+
+import com.project.employee.dto.PayrollStats;
+import com.project.employee.dto.PayrollSummary;
+import com.project.employee.dto.SalaryDistribution;
+import com.project.employee.exception.ApiException;
+import com.project.employee.spec.EmployeeFilter;
+import com.project.employee.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PayrollAggregatesTest {
+
+    @Test
+    void shouldFollowCreatesUpdatesAndDeletes() {
+        // given
+        PayrollAggregates aggregates = new PayrollAggregates(null, Runnable::run);
+        aggregates.putAll(List.of(
+                employee(1L, "Developer", 5000.0, LocalDate.of(2024, 1, 10)),
+                employee(2L, "Developer", 7000.0, LocalDate.of(2024, 1, 20)),
+                employee(3L, "Tester", 4000.0, LocalDate.of(2024, 2, 1))));
+
+        // when
+        aggregates.put(employee(2L, "Tester", 3000.0, LocalDate.of(2024, 2, 5)));
+        aggregates.removeAll(List.of(1L));
+
+        // then
+        PayrollSummary summary = aggregates.summary();
+        assertEquals(2, summary.getTotal().getHeadcount());
+        assertEquals(7000.0, summary.getTotal().getTotalSalary());
+        assertNull(summary.getByPosition().get("Developer"));
+        assertNull(summary.getByStartMonth().get("2024-01"));
+
+        PayrollStats testers = summary.getByPosition().get("Tester");
+        assertEquals(2, testers.getHeadcount());
+        assertEquals(3500.0, testers.getAverageSalary());
+        assertEquals(3000.0, testers.getMinSalary());
+        assertEquals(4000.0, testers.getMaxSalary());
+    }
+
+    @Test
+    void shouldKeepMinAndMaxWhenTheirHoldersLeave() {
+        // given
+        PayrollAggregates aggregates = new PayrollAggregates(null, Runnable::run);
+        aggregates.putAll(List.of(
+                employee(1L, "Developer", 5000.0, LocalDate.of(2024, 1, 10)),
+                employee(2L, "Developer", 9000.0, LocalDate.of(2024, 1, 20)),
+                employee(3L, "Developer", 9000.0, LocalDate.of(2024, 2, 1)),
+                employee(4L, "Developer", 6000.0, LocalDate.of(2024, 2, 5))));
+
+        // when
+        aggregates.removeAll(List.of(2L));
+        PayrollStats oneTopEarnerLeft = aggregates.summary().getByPosition().get("Developer");
+        aggregates.removeAll(List.of(1L, 3L));
+        PayrollStats developers = aggregates.summary().getByPosition().get("Developer");
+
+        // then
+        assertEquals(5000.0, oneTopEarnerLeft.getMinSalary());
+        assertEquals(9000.0, oneTopEarnerLeft.getMaxSalary());
+        assertEquals(6000.0, developers.getMinSalary());
+        assertEquals(6000.0, developers.getMaxSalary());
+        assertEquals(6000.0, aggregates.summary().getByStartMonth().get("2024-02").getMaxSalary());
+    }
+
+    @Test
+    void shouldRejectBucketWidthsTooSmallForTheRange() {
+        // given
+        PayrollAggregates aggregates = new PayrollAggregates(null, Runnable::run);
+        aggregates.putAll(List.of(
+                employee(1L, "Developer", 5000.0, LocalDate.of(2024, 1, 10)),
+                employee(2L, "Developer", 9000.0, LocalDate.of(2024, 1, 20))));
+
+        // when
+        SalaryDistribution distribution = aggregates.salaryDistribution(new EmployeeFilter(), 2000);
+
+        // then: a quotient past the long range must not wrap the bucket loop
+        assertEquals(3, distribution.getHistogram().size());
+        assertEquals(4000.0, distribution.getHistogram().get(0).getFrom());
+        assertEquals(2, distribution.getHistogram().stream().mapToLong(bucket -> bucket.getCount()).sum());
+        assertThrows(ApiException.class, () -> aggregates.salaryDistribution(new EmployeeFilter(), 1e-15));
+        assertThrows(ApiException.class, () -> aggregates.salaryDistribution(new EmployeeFilter(), 1));
+    }
+
+    private static Employee employee(Long id, String position, Double salary, LocalDate startWorkDate) {
+        return Employee.builder()
+                .id(id)
+                .position(position)
+                .salary(salary)
+                .startWorkDate(startWorkDate)
+                .build();
+    }
+}
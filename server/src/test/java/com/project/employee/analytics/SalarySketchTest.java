@@ -0,0 +1,74 @@
+package com.project.employee.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SalarySketchTest {
+
+    @Test
+    void shouldAnswerQuantilesWithinRelativeAccuracy() {
+        // given
+        Random random = new Random(42);
+        double[] salaries = new double[50_000];
+        SalarySketch left = new SalarySketch(0.01, 2_048);
+        SalarySketch right = new SalarySketch(0.01, 2_048);
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = 20_000 + Math.exp(random.nextGaussian()) * 40_000;
+            (i % 2 == 0 ? left : right).add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        // when
+        left.merge(right);
+
+        // then
+        assertEquals(salaries.length, left.getCount());
+        for (double q : new double[] {0.1, 0.5, 0.9, 0.99}) {
+            double exact = salaries[(int) (q * (salaries.length - 1))];
+            double estimate = left.quantile(q);
+            assertTrue(Math.abs(estimate - exact) <= exact * 0.01 + 1e-9, q + ": " + estimate + " vs " + exact);
+        }
+    }
+
+    @Test
+    void shouldForgetRemovedValues() {
+        // given
+        SalarySketch sketch = new SalarySketch(0.01, 2_048);
+        for (int i = 1; i <= 100; i++) {
+            sketch.add(i * 1_000);
+        }
+
+        // when
+        for (int i = 51; i <= 100; i++) {
+            sketch.remove(i * 1_000);
+        }
+
+        // then
+        assertEquals(50, sketch.getCount());
+        assertEquals(50_000, sketch.quantile(1.0), 500);
+        assertEquals(25_000, sketch.quantile(0.5), 250);
+    }
+
+    @Test
+    void shouldFoldLowestBucketsWhenOutOfRoom() {
+        // given
+        SalarySketch sketch = new SalarySketch(0.01, 64);
+
+        // when
+        for (double value = 1; value < 1e9; value *= 1.5) {
+            sketch.add(value);
+        }
+        sketch.add(1e9);
+
+        // then
+        long[] buckets = new long[1];
+        sketch.forEachBucket((value, count) -> buckets[0]++);
+        assertTrue(buckets[0] <= 64);
+        assertEquals(1e9, sketch.quantile(1.0), 1e9 * 0.01);
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.employee.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.project.employee.controller.PagedResponse;
+import com.project.employee.dto.EmployeeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Serializes a 100-row employee page with Boot's default ObjectMapper, with Blackbird
+ * alone, and with Blackbird plus {@link EmployeeJsonCache} as the application does.
+ * Not part of the regular suite; run with
+ * {@code mvn test -Dtest=EmployeePageSerializationBenchmark}.
+ */
+public class EmployeePageSerializationBenchmark {
+
+    private static final int ROWS = 100;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    void cachedFragmentsSerializePagesFaster() throws IOException {
+        // given
+        ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper blackbird = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule())
+                .build();
+        ObjectMapper cached = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule(),
+                        new EmployeeJsonCache(new SimpleMeterRegistry(), 32 << 20).module())
+                .build();
+        PagedResponse<EmployeeDto> page = page();
+        assertArrayEquals(reflective.writeValueAsBytes(page), blackbird.writeValueAsBytes(page));
+        assertArrayEquals(reflective.writeValueAsBytes(page), cached.writeValueAsBytes(page));
+
+        // when: best of several interleaved rounds, the first of which warms up the JIT
+        double reflectiveNanos = Double.MAX_VALUE;
+        double blackbirdNanos = Double.MAX_VALUE;
+        double cachedNanos = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            reflectiveNanos = Math.min(reflectiveNanos, nanosPerPage(reflective, page));
+            blackbirdNanos = Math.min(blackbirdNanos, nanosPerPage(blackbird, page));
+            cachedNanos = Math.min(cachedNanos, nanosPerPage(cached, page));
+        }
+
+        // then
+        System.out.printf("%d-row page: reflective %.1f us, blackbird %.1f us, cached fragments %.1f us (%.1fx)%n",
+                ROWS, reflectiveNanos / 1000, blackbirdNanos / 1000, cachedNanos / 1000,
+                reflectiveNanos / cachedNanos);
+        assertTrue(cachedNanos < reflectiveNanos);
+    }
+
+    private static double nanosPerPage(ObjectMapper mapper, Object page) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            out.reset();
+            mapper.writeValue(out, page);
+        }
+        return (System.nanoTime() - start) / (double) ITERATIONS;
+    }
+
+    private static PagedResponse<EmployeeDto> page() {
+        List<EmployeeDto> rows = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            rows.add(new EmployeeDto(id, "First" + id, "Last" + id, "employee" + id + "@company.com",
+                    "555010" + id, id % 2 == 0 ? "Software Engineer" : "QA Engineer", 50_000.0 + id * 123.45,
+                    LocalDate.of(2024, 1, 1).plusDays(id), id % 3));
+        }
+        return new PagedResponse<>(new PageImpl<>(rows, PageRequest.of(0, ROWS), 1_000));
+    }
+}
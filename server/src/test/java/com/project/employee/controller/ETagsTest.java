@@ -0,0 +1,41 @@
+package com.project.employee.controller;
+
+import com.project.employee.dto.KeysetPage;
+import com.project.employee.dto.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ETagsTest {
+
+    @Test
+    void shouldAcceptOnlyStrongVersionTagsFromIfMatch() {
+        assertNull(ETags.acceptedVersions(null));
+        assertNull(ETags.acceptedVersions(" * "));
+        assertEquals(List.of(3L, 7L), ETags.acceptedVersions("\"3\", W/\"5\", \"7\""));
+        assertEquals(List.of(), ETags.acceptedVersions("\"abc\""));
+    }
+
+    @Test
+    void shouldChangePageTagWhenAnyRowVersionChanges() {
+        // given
+        UserDto first = new UserDto(1L, "A", "a", "ROLE_USER", null, 0L);
+        UserDto second = new UserDto(2L, "B", "b", "ROLE_USER", null, 4L);
+        String before = ETags.of(page(first, second));
+
+        // when
+        second.setVersion(5L);
+
+        // then
+        assertNotEquals(before, ETags.of(page(first, second)));
+        assertEquals(ETags.of(page(first, second)), ETags.of(page(first, second)));
+    }
+
+    private static PagedResponse<UserDto> page(UserDto... rows) {
+        return new PagedResponse<>(new KeysetPage<>(List.of(rows), rows.length, false, null));
+    }
+}
@@ -96,9 +96,10 @@ public class EmployeeControllerTest {
         // then
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()", is(2)))
-                .andExpect(jsonPath("$[0].email", is("john@example.com")))
-                .andExpect(jsonPath("$[1].email", is("jane@example.com")));
+                .andExpect(jsonPath("$.created.length()", is(2)))
+                .andExpect(jsonPath("$.created[0].email", is("john@example.com")))
+                .andExpect(jsonPath("$.created[1].email", is("jane@example.com")))
+                .andExpect(jsonPath("$.errors.length()", is(0)));
     }
 
     @Test
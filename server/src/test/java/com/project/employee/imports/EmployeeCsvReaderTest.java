@@ -0,0 +1,84 @@
+package com.project.employee.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EmployeeCsvReaderTest {
+
+    private static EmployeeCsvReader reader(String csv) throws IOException {
+        EmployeeCsvReader reader = new EmployeeCsvReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        reader.readHeader();
+        return reader;
+    }
+
+    @Test
+    void shouldReadExportLayoutWithQuotedFields() throws IOException {
+        // given
+        EmployeeCsvReader reader = reader("id,firstName,lastName,email,phone,position,salary,startWorkDate\r\n"
+                + "7,\"Doe, Jr\",\"O\"\"Neil\",jd@example.com,,\"Line\nBreak\",1200.5,2024-02-01\r\n");
+
+        // when
+        EmployeeCsvReader.Row row = reader.next();
+
+        // then
+        assertEquals(2, row.lineNumber());
+        assertEquals("Doe, Jr", row.request().getFirstName());
+        assertEquals("O\"Neil", row.request().getLastName());
+        assertNull(row.request().getPhone());
+        assertEquals("Line\nBreak", row.request().getPosition());
+        assertEquals(1200.5, row.request().getSalary());
+        assertEquals(LocalDate.of(2024, 2, 1), row.request().getStartWorkDate());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldReportUnparsableFieldsAndTrackLineNumbers() throws IOException {
+        // given
+        EmployeeCsvReader reader = reader("email,startWorkDate,salary,lastName,firstName\n"
+                + "a@example.com,2024-01-01,\"1\n2\",A,B\n"
+                + "\n"
+                + "b@example.com,01/02/2024,10,A,B\n");
+
+        // when
+        EmployeeCsvReader.Row first = reader.next();
+        EmployeeCsvReader.Row second = reader.next();
+
+        // then
+        assertEquals(2, first.lineNumber());
+        assertEquals("Invalid salary: 1\n2", first.error());
+        assertEquals(5, second.lineNumber());
+        assertEquals("b@example.com", second.key());
+        assertEquals("Invalid start work date: 01/02/2024", second.error());
+    }
+
+    @Test
+    void shouldSkipAlreadyImportedRecords() throws IOException {
+        // given
+        EmployeeCsvReader reader = reader("firstName,lastName,email,salary,startWorkDate\n"
+                + "A,A,a@example.com,1,2024-01-01\n"
+                + "B,B,b@example.com,1,2024-01-01\n"
+                + "C,C,c@example.com,1,2024-01-01\n");
+
+        // when
+        reader.skip(2);
+
+        // then
+        assertEquals("c@example.com", reader.next().request().getEmail());
+    }
+
+    @Test
+    void shouldRejectHeaderWithoutRequiredColumns() {
+        EmployeeCsvReader reader = new EmployeeCsvReader(
+                new ByteArrayInputStream("firstName,lastName\n".getBytes(StandardCharsets.UTF_8)));
+
+        assertThrows(IllegalArgumentException.class, reader::readHeader);
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.employee.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldRejectImmediatelyWhenQueueIsFullAndAfterWaitWhenSlotStaysTaken() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0, Duration.ofMillis(20), 2.0, clock::get);
+        AdaptiveConcurrencyLimiter.Permit held = limiter.acquire();
+        AdaptiveConcurrencyLimiter queueing = new AdaptiveConcurrencyLimiter(1, 1, 1, 1, Duration.ofMillis(20), 2.0, clock::get);
+        queueing.acquire();
+
+        // when
+        AdaptiveConcurrencyLimiter.RejectedException full = assertThrows(AdaptiveConcurrencyLimiter.RejectedException.class, limiter::acquire);
+        AdaptiveConcurrencyLimiter.RejectedException timeout = assertThrows(AdaptiveConcurrencyLimiter.RejectedException.class, queueing::acquire);
+
+        // then
+        assertEquals(AdaptiveConcurrencyLimiter.Rejection.QUEUE_FULL, full.getReason());
+        assertEquals(AdaptiveConcurrencyLimiter.Rejection.TIMEOUT, timeout.getReason());
+        assertEquals(0, queueing.getQueued());
+        held.close();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldGrowLimitWhileLatencyIsFlatAndBackOffWhenItRises() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 10, Duration.ofSeconds(1), 2.0, clock::get);
+
+        // when: busy calls at the baseline latency
+        for (int i = 0; i < 3; i++) {
+            call(limiter, 2, 100);
+        }
+        int grown = limiter.getLimit();
+        // and then calls five times slower
+        call(limiter, 1, 500);
+        call(limiter, 1, 500);
+
+        // then
+        assertEquals(5, grown);
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void shouldKeepLimitWhenFastCompletionsAreMixedIntoSlowOnes() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(5, 1, 10, 10, Duration.ofSeconds(1), 2.0, clock::get);
+
+        // when: BCrypt-bound calls, with quick rejected calls in between and an odd fast success
+        for (int i = 1; i <= 300; i++) {
+            call(limiter, 5, 100);
+            call(limiter, 2, 1, false);
+            if (i % 25 == 0) {
+                call(limiter, 1, 1);
+            }
+        }
+
+        // then
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void shouldFollowBaselineWhenResourceBecomesSlowerForGood() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 10, Duration.ofSeconds(1), 2.0, clock::get);
+        for (int i = 0; i < 50; i++) {
+            call(limiter, limiter.getLimit(), 100);
+        }
+
+        // when
+        int lowest = limiter.getLimit();
+        for (int i = 0; i < 200; i++) {
+            call(limiter, limiter.getLimit(), 300);
+            lowest = Math.min(lowest, limiter.getLimit());
+        }
+
+        // then: backed off while the window still held the old latency, then grew back
+        assertEquals(1, lowest);
+        assertEquals(10, limiter.getLimit());
+    }
+
+    private void call(AdaptiveConcurrencyLimiter limiter, int concurrent, long millis) throws InterruptedException {
+        call(limiter, concurrent, millis, true);
+    }
+
+    private void call(AdaptiveConcurrencyLimiter limiter, int concurrent, long millis, boolean succeeded)
+            throws InterruptedException {
+        AdaptiveConcurrencyLimiter.Permit[] permits = new AdaptiveConcurrencyLimiter.Permit[concurrent];
+        for (int i = 0; i < concurrent; i++) {
+            permits[i] = limiter.acquire();
+        }
+        clock.addAndGet(Duration.ofMillis(millis).toNanos());
+        for (AdaptiveConcurrencyLimiter.Permit permit : permits) {
+            if (!succeeded) {
+                permit.skipSample();
+            }
+            permit.close();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.employee.repository;
+
+import com.project.employee.dto.FacetCount;
+import com.project.employee.model.Employee;
+import com.project.employee.spec.EmployeeFilter;
+import com.project.employee.spec.EmployeeSpecification;
+import com.project.employee.spec.Facet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class EmployeeFacetCountTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("facet" + i + "@example.com")
+                    .position(i < 20 ? "Software Engineer" : "QA Engineer")
+                    .salary(i % 3 == 0 ? null : 40000.0 + i * 1000)
+                    .startWorkDate(LocalDate.of(i < 10 ? 2023 : 2024, 1 + i % 12, 1))
+                    .build());
+        }
+        employeeRepository.saveAll(employees);
+    }
+
+    @Test
+    void shouldCountEveryFacetOfTheMatchingRows() {
+        // given
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setName("last1");
+
+        // when
+        Map<Facet, List<FacetCount>> facets = employeeRepository.countFacets(
+                EmployeeSpecification.withFilter(filter), EnumSet.allOf(Facet.class), 10000);
+
+        // then: Last1 and Last10..Last19, all software engineers
+        assertEquals(List.of(new FacetCount("Software Engineer", 11)), facets.get(Facet.POSITION));
+        assertEquals(List.of(
+                new FacetCount("40000-50000", 1),
+                new FacetCount("50000-60000", 7),
+                new FacetCount(null, 3)), facets.get(Facet.SALARY_BAND));
+        assertEquals(List.of(
+                new FacetCount("2023", 1),
+                new FacetCount("2024", 10)), facets.get(Facet.START_YEAR));
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.employee.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterTest {
+
+    @Test
+    void shouldNeverMissAddedValuesAndRarelyMatchOthers() {
+        // given
+        BloomFilter filter = BloomFilter.forExpected(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i));
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
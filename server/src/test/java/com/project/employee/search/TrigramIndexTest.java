@@ -0,0 +1,108 @@
+package com.project.employee.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TrigramIndexTest {
+
+    @Test
+    void shouldReturnIdsContainingAllTrigramsOfTerm() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(3, "Johnson");
+        index.add(1, "John");
+        index.add(2, "Joanna");
+
+        // when
+        long[] candidates = index.candidates("ohn", 100);
+
+        // then
+        assertArrayEquals(new long[]{1, 3}, candidates);
+    }
+
+    @Test
+    void shouldFoldCaseAndAccents() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Renée Lefèvre");
+
+        // then
+        assertArrayEquals(new long[]{1}, index.candidates("RENEE", 100));
+        assertArrayEquals(new long[]{1}, index.candidates("lefè", 100));
+    }
+
+    @Test
+    void shouldFoldLettersWithoutDecomposition() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Đặng Văn Đức");
+        index.add(2, "Søren Æbeløe");
+
+        // then
+        assertArrayEquals(new long[]{1}, index.candidates("dang", 100));
+        assertArrayEquals(new long[]{1}, index.candidates("Đức", 100));
+        assertArrayEquals(new long[]{1}, index.candidates("van duc", 100));
+        assertArrayEquals(new long[]{2}, index.candidates("soren", 100));
+        assertArrayEquals(new long[]{2}, index.candidates("aebel", 100));
+    }
+
+    @Test
+    void shouldNotNarrowShortTermsOrTooManyMatches() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Engineer");
+        index.add(2, "Senior Engineer");
+        index.add(3, "QA Engineer");
+
+        // then
+        assertNull(index.candidates("en", 100));
+        assertNull(index.candidates("engineer", 2));
+        assertArrayEquals(new long[0], index.candidates("manager", 100));
+    }
+
+    @Test
+    void shouldMatchScanWhenIdsArriveOutOfOrderAndListsAreLong() {
+        // given: mostly ascending ids with older rows re-added, as updates do
+        Random random = new Random(42);
+        String[] names = {"Nguyen", "Tran", "Le", "Pham", "Hoang", "Huynh", "Phan", "Vu", "Vo", "Dang"};
+        String[] values = new String[20_000];
+        List<Integer> order = new ArrayList<>();
+        for (int id = 0; id < values.length; id++) {
+            values[id] = names[random.nextInt(names.length)] + " " + names[random.nextInt(names.length)];
+            order.add(id);
+        }
+        Collections.shuffle(order.subList(values.length / 2, values.length), random);
+        TrigramIndex index = new TrigramIndex();
+        order.forEach(id -> index.add(id, values[id]));
+        for (int i = 0; i < 2_000; i++) {
+            int id = random.nextInt(values.length);
+            index.add(id, values[id]);
+        }
+        index.trim();
+
+        // then
+        for (String term : new String[]{"guy", "ran", "hoang", "an ng", "vo v", "huynh phan"}) {
+            List<Long> expected = new ArrayList<>();
+            for (int id = 0; id < values.length; id++) {
+                if (values[id].toLowerCase(Locale.ROOT).contains(term)) {
+                    expected.add((long) id);
+                }
+            }
+            assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(),
+                    index.candidates(term, values.length), term);
+        }
+    }
+
+    @Test
+    void shouldIntersectSortedIds() {
+        assertArrayEquals(new long[]{2, 5}, TrigramIndex.intersect(new long[]{1, 2, 5, 9}, new long[]{2, 3, 5}));
+    }
+}
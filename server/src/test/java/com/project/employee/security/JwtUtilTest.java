@@ -0,0 +1,90 @@
+package com.project.employee.security;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class JwtUtilTest {
+
+    private static final String SECRET = "MySecretKeyForJWTMySecretKeyForJWTMySecretKeyForJWT";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 100, registry);
+
+    @Test
+    void shouldVerifyTokenOnceAndServeRepeatsFromCache() {
+        // given
+        String token = jwtUtil.generateAccessToken("alice", "ROLE_ADMIN");
+
+        // when
+        JwtClaims first = jwtUtil.verify(token);
+        JwtClaims second = jwtUtil.verify(token);
+
+        // then
+        assertEquals("alice", first.username());
+        assertEquals("ROLE_ADMIN", first.role());
+        assertSame(first, second);
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void shouldRejectTamperedAndExpiredTokens() {
+        // given
+        String token = jwtUtil.generateAccessToken("alice", "ROLE_ADMIN");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String expired = Jwts.builder()
+                .subject("alice")
+                .claim("role", "ROLE_ADMIN")
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // then
+        assertNull(jwtUtil.verify(tampered));
+        assertNull(jwtUtil.verify(expired));
+        assertNull(jwtUtil.verify("not-a-jwt"));
+    }
+
+    @Test
+    void shouldAcceptEachTokenOnlyAsItsOwnType() {
+        // given
+        String access = jwtUtil.generateAccessToken("alice", "ROLE_ADMIN");
+        String refresh = jwtUtil.generateRefreshToken("alice", "ROLE_ADMIN");
+
+        // then
+        assertNotNull(jwtUtil.verifyAccess(access));
+        assertNull(jwtUtil.verifyRefresh(access));
+        assertNotNull(jwtUtil.verifyRefresh(refresh));
+        assertNull(jwtUtil.verifyAccess(refresh));
+        assertNull(jwtUtil.getAuthentication(refresh));
+    }
+
+    @Test
+    void shouldTypeTokensIssuedWithoutTypeClaimByTheirJti() {
+        // given: tokens as issued before the typ claim was added
+        String access = untyped().id("jti-1").compact();
+        String refresh = untyped().compact();
+
+        // then
+        assertEquals(JwtClaims.Type.ACCESS, jwtUtil.verify(access).type());
+        assertEquals(JwtClaims.Type.REFRESH, jwtUtil.verify(refresh).type());
+        assertNull(jwtUtil.verifyAccess(refresh));
+    }
+
+    private static JwtBuilder untyped() {
+        return Jwts.builder()
+                .subject("alice")
+                .claim("role", "ROLE_ADMIN")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.employee.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenRevocationListTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final TokenRevocationList revocations =
+            new TokenRevocationList(Duration.ofMinutes(15), Duration.ofMinutes(1), 1024, clock);
+
+    @Test
+    void shouldReportOnlyRevokedTokens() {
+        // given
+        long expiresAt = clock.instant().plus(Duration.ofMinutes(10)).getEpochSecond();
+
+        // when
+        revocations.revoke("revoked", expiresAt);
+
+        // then
+        assertTrue(revocations.isRevoked("revoked", expiresAt));
+        assertFalse(revocations.isRevoked("other", expiresAt));
+        assertFalse(revocations.isRevoked("revoked", expiresAt + 3600));
+    }
+
+    @Test
+    void shouldDropBucketsOnceTheirTokensExpire() {
+        // given
+        long expiresAt = clock.instant().plus(Duration.ofMinutes(5)).getEpochSecond();
+        revocations.revoke("revoked", expiresAt);
+
+        // when
+        clock.advance(Duration.ofMinutes(7));
+        revocations.dropExpired();
+
+        // then
+        assertFalse(revocations.isRevoked("revoked", expiresAt));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
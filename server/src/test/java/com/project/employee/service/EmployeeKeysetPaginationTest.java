@@ -0,0 +1,155 @@
+package com.project.employee.service;
+
+import com.project.employee.dto.EmployeeDto;
+import com.project.employee.dto.KeysetPage;
+import com.project.employee.exception.ApiException;
+import com.project.employee.model.Employee;
+import com.project.employee.repository.EmployeeRepository;
+import com.project.employee.spec.EmployeeFilter;
+import com.project.employee.spec.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class EmployeeKeysetPaginationTest {
+
+    private static final int ROWS = 21;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private List<Employee> saved;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            // three last names and three start dates, so most rows tie on either sort key
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i % 3)
+                    .email("keyset" + i + "@example.com")
+                    .position("Software Engineer")
+                    .salary(50000.0)
+                    .startWorkDate(LocalDate.of(2024, 1 + i % 3, 1))
+                    .build());
+        }
+        saved = employeeRepository.saveAll(employees);
+    }
+
+    @Test
+    void shouldWalkEveryRowOnceInIdOrder() {
+        // when
+        List<KeysetPage<EmployeeDto>> pages = walk("id", 5);
+
+        // then: 5 + 5 + 5 + 5 + 1
+        assertEquals(5, pages.size());
+        assertEquals(sortedIds(Comparator.comparing(Employee::getId)), ids(pages));
+        KeysetPage<EmployeeDto> last = pages.get(pages.size() - 1);
+        assertEquals(1, last.getContent().size());
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void shouldBreakTiesOnEqualSortKeysById() {
+        // when
+        List<KeysetPage<EmployeeDto>> byLastName = walk("lastName", 4);
+        List<KeysetPage<EmployeeDto>> byStartDate = walk("startWorkDate", 4);
+
+        // then: no row skipped or repeated where a page boundary falls inside a run of equal keys
+        assertEquals(sortedIds(Comparator.comparing(Employee::getLastName).thenComparing(Employee::getId)),
+                ids(byLastName));
+        assertEquals(sortedIds(Comparator.comparing(Employee::getStartWorkDate).thenComparing(Employee::getId)),
+                ids(byStartDate));
+    }
+
+    @Test
+    void shouldEndWithoutEmptyPageWhenLastPageIsFull() {
+        // when
+        KeysetPage<EmployeeDto> first = employeeService.scrollEmployees(new EmployeeFilter(), "id", null, 14);
+        KeysetPage<EmployeeDto> second = employeeService.scrollEmployees(
+                new EmployeeFilter(), "id", first.getNextCursor(), 7);
+
+        // then
+        assertTrue(first.isHasNext());
+        assertEquals(7, second.getContent().size());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void shouldRoundTripCursorAndKeepItsSortField() {
+        // given
+        KeysetPage<EmployeeDto> first = employeeService.scrollEmployees(new EmployeeFilter(), "startWorkDate", null, 3);
+
+        // when: the sort requested with a cursor is ignored in favour of the cursor's own
+        KeysetCursor cursor = KeysetCursor.decode(first.getNextCursor());
+        KeysetPage<EmployeeDto> second = employeeService.scrollEmployees(
+                new EmployeeFilter(), "email", first.getNextCursor(), 3);
+
+        // then
+        assertEquals(first.getNextCursor(), cursor.encode());
+        assertEquals("startWorkDate", cursor.getSortField());
+        assertEquals(first.getContent().get(2).getId(), cursor.getLastId());
+        List<Long> expected = sortedIds(
+                Comparator.comparing(Employee::getStartWorkDate).thenComparing(Employee::getId));
+        assertEquals(expected.subList(3, 6), second.getContent().stream().map(EmployeeDto::getId).toList());
+    }
+
+    @Test
+    void shouldRejectMalformedAndTamperedCursors() {
+        for (String after : List.of(
+                "not a cursor!",
+                token("id"),
+                token("id:abc"),
+                token("startWorkDate:1:not-a-date"),
+                token("salary:1:50000.0"),
+                token("password:1:secret"))) {
+            assertThrows(ApiException.class,
+                    () -> employeeService.scrollEmployees(new EmployeeFilter(), "id", after, 5), after);
+        }
+    }
+
+    private List<KeysetPage<EmployeeDto>> walk(String sort, int size) {
+        List<KeysetPage<EmployeeDto>> pages = new ArrayList<>();
+        String after = null;
+        do {
+            KeysetPage<EmployeeDto> page = employeeService.scrollEmployees(new EmployeeFilter(), sort, after, size);
+            pages.add(page);
+            after = page.getNextCursor();
+        } while (after != null && pages.size() <= ROWS);
+        return pages;
+    }
+
+    private static List<Long> ids(List<KeysetPage<EmployeeDto>> pages) {
+        return pages.stream().flatMap(page -> page.getContent().stream()).map(EmployeeDto::getId).toList();
+    }
+
+    private List<Long> sortedIds(Comparator<Employee> order) {
+        return saved.stream().sorted(order).map(Employee::getId).toList();
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.employee.service;
+
+import com.project.employee.dto.KeysetPage;
+import com.project.employee.dto.UserDto;
+import com.project.employee.model.User;
+import com.project.employee.repository.UserRepository;
+import com.project.employee.spec.UserFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class UserKeysetPaginationTest {
+
+    private static final String ROLE = "KEYSET_TEST";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<User> saved;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            // every third user has no username; lower ids get the smaller names, which a
+            // cursor ending on a null must not skip
+            users.add(User.builder()
+                    .name("User " + i)
+                    .username(i % 3 == 0 ? null : "keyset" + (char) ('a' + i))
+                    .password("secret")
+                    .role(ROLE)
+                    .build());
+        }
+        saved = userRepository.saveAll(users);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(saved);
+    }
+
+    @Test
+    void shouldNotSkipRowsWhenPageEndsOnNullSortValue() {
+        // given
+        UserFilter filter = new UserFilter();
+        filter.setRole(ROLE);
+
+        // when: pages of 3 end on a null username after the first page
+        List<Long> walked = new ArrayList<>();
+        String after = null;
+        do {
+            KeysetPage<UserDto> page = userService.scrollUsers(filter, "username", after, 3);
+            page.getContent().forEach(user -> walked.add(user.getId()));
+            after = page.getNextCursor();
+        } while (after != null && walked.size() <= saved.size());
+
+        // then: nulls first, then by username, ties by id
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(User::getUsername, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(User::getId))
+                .map(User::getId)
+                .toList();
+        assertEquals(expected, walked);
+    }
+}
@@ -0,0 +1,189 @@
+package com.project.employee.spec;
+
+import com.project.employee.model.Employee;
+import com.project.employee.repository.EmployeeRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks on a seeded table that the PREFIX/EXACT predicates are answered from the
+ * indexes on the lower-cased generated columns, while the CONTAINS form is not. The
+ * plans are taken for the SQL Hibernate actually generates from the specification,
+ * captured by {@link CapturingInspector}.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.project.employee.spec.EmployeeSpecificationExplainTest$CapturingInspector")
+public class EmployeeSpecificationExplainTest {
+
+    private static final int ROWS = 2000;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("Employee" + i + "@Example.com")
+                    .phone("1234567890")
+                    .position(i % 2 == 0 ? "Software Engineer" : "QA Engineer")
+                    .salary(40000.0 + i)
+                    .startWorkDate(LocalDate.of(2020, 1, 1).plusDays(i % 365))
+                    .build());
+        }
+        employeeRepository.saveAll(employees);
+    }
+
+    @Test
+    void containsMatchCannotUseEmailIndex() {
+        // given
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setEmail("Employee1234");
+
+        // when
+        String sql = generatedSql(filter);
+        String plan = explain(sql, "%employee1234%");
+
+        // then
+        assertTrue(where(sql).contains("lower(e1_0.email) like ?"), sql);
+        assertFalse(where(sql).contains("email_lc"), sql);
+        assertFalse(plan.contains("idx_employee_email_lc"), plan);
+    }
+
+    @Test
+    void prefixMatchUsesEmailIndex() {
+        // given
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setEmail("Employee1234");
+        filter.setMatchMode(MatchMode.PREFIX);
+
+        // when
+        String sql = generatedSql(filter);
+        String plan = explain(sql, "employee1234%");
+
+        // then
+        assertTrue(where(sql).contains("e1_0.email_lc like ?"), sql);
+        assertTrue(plan.contains("idx_employee_email_lc"), plan);
+    }
+
+    @Test
+    void exactMatchUsesEmailIndex() {
+        // given
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setEmail("Employee1234@Example.com");
+        filter.setMatchMode(MatchMode.EXACT);
+
+        // when
+        String sql = generatedSql(filter);
+        String plan = explain(sql, "employee1234@example.com");
+
+        // then
+        assertTrue(where(sql).contains("e1_0.email_lc=?"), sql);
+        assertTrue(plan.contains("idx_employee_email_lc"), plan);
+    }
+
+    @Test
+    void exactNameMatchComparesBothLowerCasedColumns() {
+        // given
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setName("Last1234");
+        filter.setMatchMode(MatchMode.EXACT);
+
+        // when
+        String sql = generatedSql(filter);
+
+        // then: an OR over two indexed columns; MySQL unions both indexes (index_merge),
+        // H2 has no such plan, so only the rendered predicate is checked here
+        assertTrue(where(sql).contains("e1_0.first_name_lc=?"), sql);
+        assertTrue(where(sql).contains("e1_0.last_name_lc=?"), sql);
+        assertFalse(where(sql).contains("lower("), sql);
+    }
+
+    @Test
+    void prefixModeMatchesSameRowsAsContainsForPrefixTerm() {
+        // given
+        EmployeeFilter contains = new EmployeeFilter();
+        contains.setEmail("EMPLOYEE123");
+        EmployeeFilter prefix = new EmployeeFilter();
+        prefix.setEmail("EMPLOYEE123");
+        prefix.setMatchMode(MatchMode.PREFIX);
+
+        // when
+        List<Employee> expected = employeeRepository.findAll(EmployeeSpecification.withFilter(contains));
+        List<Employee> actual = employeeRepository.findAll(EmployeeSpecification.withFilter(prefix));
+
+        // then
+        assertEquals(11, actual.size());
+        assertEquals(expected.size(), actual.size());
+    }
+
+    @Test
+    void prefixModeEscapesLikeWildcards() {
+        // given
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setName("first_");
+        filter.setMatchMode(MatchMode.PREFIX);
+
+        // when
+        List<Employee> result = employeeRepository.findAll(EmployeeSpecification.withFilter(filter));
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    /** The select Hibernate ran for {@code filter}, lower-cased. */
+    private String generatedSql(EmployeeFilter filter) {
+        CapturingInspector.STATEMENTS.clear();
+        employeeRepository.findAll(EmployeeSpecification.withFilter(filter));
+        List<String> selects = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from employee "))
+                .toList();
+        assertEquals(1, selects.size(), selects::toString);
+        return selects.get(0);
+    }
+
+    private static String where(String sql) {
+        return sql.substring(sql.indexOf(" where "));
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).stream()
+                .map(Object::toString)
+                .collect(Collectors.joining("\n"))
+                .toLowerCase();
+    }
+
+    /** Records every statement the session factory prepares; instantiated by Hibernate. */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase());
+            return sql;
+        }
+    }
+}